@@ -0,0 +1,240 @@
+package com.sid.app.benchmark;
+
+import com.sid.app.constants.AppConstants;
+import com.sid.app.model.Employee;
+import com.sid.app.model.EmployeeField;
+import com.sid.app.model.EmployeeUpsert;
+import com.sid.app.repository.BlobEmployeeStore;
+import com.sid.app.repository.EmployeeStore;
+import com.sid.app.repository.FieldHashEmployeeStore;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.IntConsumer;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+/**
+ * Compares the blob and field-per-hash employee storage layouts.
+ *
+ * <p>Always reports the bytes transferred and the decode cost of a full read and of a {@code name}
+ * projection, using the same serializers the application uses. When {@code benchmark.redis.host} is
+ * set, also measures round trips against that Redis server for both layouts.
+ *
+ * <p>The round trips run in their own database ({@code benchmark.redis.database}, 15 by default),
+ * which must be empty: every layout and index key the stores share is fixed, so the benchmark only
+ * runs where it cannot touch application data, and it deletes everything it wrote, version fields
+ * included, before it exits.
+ *
+ * <p>Run with {@code ./gradlew storageLayoutBenchmark} (optionally {@code
+ * -Dbenchmark.redis.host=localhost -Dbenchmark.redis.database=15 -Dbenchmark.employees=10000}).
+ *
+ * @author Siddhant Patni
+ */
+public final class StorageLayoutBenchmark {
+
+  private static final int WARMUP_ITERATIONS = 200_000;
+  private static final int MEASURED_ITERATIONS = 1_000_000;
+  private static final int WRITE_CHUNK_SIZE = 500;
+
+  private static final JdkSerializationRedisSerializer BLOB_SERIALIZER =
+      new JdkSerializationRedisSerializer();
+  private static final StringRedisSerializer FIELD_SERIALIZER = StringRedisSerializer.UTF_8;
+
+  private static volatile Object sink;
+
+  private StorageLayoutBenchmark() {}
+
+  public static void main(String[] args) {
+    Employee employee = new Employee("101", "Siddhant Patni", "Engineering", 100000);
+    payloadBenchmark(employee);
+
+    String redisHost = System.getProperty("benchmark.redis.host");
+    if (redisHost != null && !redisHost.isBlank()) {
+      int port = Integer.getInteger("benchmark.redis.port", 6379);
+      int database = Integer.getInteger("benchmark.redis.database", 15);
+      int employees = Integer.getInteger("benchmark.employees", 10_000);
+      redisBenchmark(redisHost, port, database, employees);
+    }
+  }
+
+  private static void payloadBenchmark(Employee employee) {
+    byte[] blob = BLOB_SERIALIZER.serialize(employee);
+    Map<String, String> hash = EmployeeField.toHash(employee);
+    byte[][] fields =
+        hash.values().stream().map(FIELD_SERIALIZER::serialize).toArray(byte[][]::new);
+    byte[] name = FIELD_SERIALIZER.serialize(employee.getName());
+    int hashBytes = 0;
+    for (byte[] field : fields) {
+      hashBytes += field.length;
+    }
+
+    System.out.println("== Payload per read (value bytes, excluding protocol framing) ==");
+    System.out.printf(Locale.ROOT, "%-32s %8d bytes%n", "blob, full record", blob.length);
+    System.out.printf(Locale.ROOT, "%-32s %8d bytes%n", "blob, name projection", blob.length);
+    System.out.printf(Locale.ROOT, "%-32s %8d bytes%n", "hash, full record", hashBytes);
+    System.out.printf(Locale.ROOT, "%-32s %8d bytes%n", "hash, name projection", name.length);
+
+    System.out.println("== Decode cost per read ==");
+    report("blob, full record", i -> sink = BLOB_SERIALIZER.deserialize(blob));
+    report(
+        "blob, name projection",
+        i -> sink = ((Employee) BLOB_SERIALIZER.deserialize(blob)).getName());
+    report(
+        "hash, full record",
+        i -> {
+          Employee decoded = new Employee();
+          decoded.setId(FIELD_SERIALIZER.deserialize(fields[0]));
+          decoded.setName(FIELD_SERIALIZER.deserialize(fields[1]));
+          decoded.setDepartment(FIELD_SERIALIZER.deserialize(fields[2]));
+          decoded.setSalary(Double.parseDouble(FIELD_SERIALIZER.deserialize(fields[3])));
+          sink = decoded;
+        });
+    report("hash, name projection", i -> sink = new String(name, StandardCharsets.UTF_8));
+  }
+
+  private static void report(String label, IntConsumer operation) {
+    for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+      operation.accept(i);
+    }
+    long start = System.nanoTime();
+    for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+      operation.accept(i);
+    }
+    double nanosPerOp = (System.nanoTime() - start) / (double) MEASURED_ITERATIONS;
+    System.out.printf(Locale.ROOT, "%-32s %8.1f ns/op%n", label, nanosPerOp);
+  }
+
+  private static void redisBenchmark(String host, int port, int database, int employees) {
+    RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(host, port);
+    configuration.setDatabase(database);
+    LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(configuration);
+    connectionFactory.afterPropertiesSet();
+    try {
+      RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
+      redisTemplate.setConnectionFactory(connectionFactory);
+      redisTemplate.setKeySerializer(new StringRedisSerializer());
+      redisTemplate.afterPropertiesSet();
+      StringRedisTemplate stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+      long existingKeys = dbSize(stringRedisTemplate);
+      if (existingKeys > 0) {
+        throw new IllegalStateException(
+            "Benchmark database "
+                + database
+                + " holds "
+                + existingKeys
+                + " keys; pick an empty one with -Dbenchmark.redis.database");
+      }
+
+      BlobEmployeeStore blobStore = new BlobEmployeeStore(redisTemplate);
+      FieldHashEmployeeStore hashStore = new FieldHashEmployeeStore(stringRedisTemplate);
+      List<String> blobIds = ids("bench-blob-", employees);
+      List<String> hashIds = ids("bench-hash-", employees);
+      List<EmployeeField> nameOnly = List.of(EmployeeField.NAME);
+
+      System.out.printf(
+          Locale.ROOT,
+          "== Redis round trips (%s:%d/%d, %d employees) ==%n",
+          host,
+          port,
+          database,
+          employees);
+      try {
+        insert(blobStore, blobIds);
+        insert(hashStore, hashIds);
+        int reads = Math.max(employees, 10_000);
+        reportRedis("blob, findById", reads, i -> sink = blobStore.findById(pick(blobIds, i)));
+        reportRedis(
+            "blob, name projection",
+            reads,
+            i -> sink = blobStore.findFieldsById(pick(blobIds, i), nameOnly));
+        reportRedis("hash, findById", reads, i -> sink = hashStore.findById(pick(hashIds, i)));
+        reportRedis(
+            "hash, name projection",
+            reads,
+            i -> sink = hashStore.findFieldsById(pick(hashIds, i), nameOnly));
+      } finally {
+        delete(blobStore, stringRedisTemplate, blobIds);
+        delete(hashStore, stringRedisTemplate, hashIds);
+      }
+      long leftKeys = dbSize(stringRedisTemplate);
+      if (leftKeys > 0) {
+        System.out.printf(
+            Locale.ROOT, "warning: %d keys left in database %d%n", leftKeys, database);
+      }
+    } finally {
+      connectionFactory.destroy();
+    }
+  }
+
+  /** Inserts the benchmark employees in chunks, with their index entries, as the service does. */
+  private static void insert(EmployeeStore store, List<String> ids) {
+    for (List<String> chunk : chunks(ids)) {
+      List<EmployeeUpsert> upserts =
+          chunk.stream()
+              .map(
+                  id ->
+                      new EmployeeUpsert(
+                          new Employee(id, "Employee " + id, "Engineering", id.length()), null))
+              .toList();
+      store.upsertBatch(upserts, store.read(chunk));
+    }
+  }
+
+  /** Deletes the benchmark employees with their index entries, then their version fields. */
+  private static void delete(
+      EmployeeStore store, StringRedisTemplate stringRedisTemplate, List<String> ids) {
+    for (List<String> chunk : chunks(ids)) {
+      store.deleteBatch(store.read(chunk));
+      stringRedisTemplate
+          .opsForHash()
+          .delete(AppConstants.EMPLOYEE_VERSION_KEY, chunk.toArray(Object[]::new));
+    }
+  }
+
+  private static long dbSize(StringRedisTemplate stringRedisTemplate) {
+    Long size =
+        stringRedisTemplate.execute(
+            (RedisCallback<Long>) connection -> connection.serverCommands().dbSize());
+    return size == null ? 0 : size;
+  }
+
+  private static List<String> ids(String prefix, int employees) {
+    List<String> ids = new ArrayList<>(employees);
+    for (int i = 0; i < employees; i++) {
+      ids.add(prefix + i);
+    }
+    return ids;
+  }
+
+  private static List<List<String>> chunks(List<String> ids) {
+    List<List<String>> chunks = new ArrayList<>();
+    for (int i = 0; i < ids.size(); i += WRITE_CHUNK_SIZE) {
+      chunks.add(ids.subList(i, Math.min(i + WRITE_CHUNK_SIZE, ids.size())));
+    }
+    return chunks;
+  }
+
+  private static String pick(List<String> ids, int i) {
+    return ids.get(i % ids.size());
+  }
+
+  private static void reportRedis(String label, int reads, IntConsumer operation) {
+    for (int i = 0; i < reads / 10; i++) {
+      operation.accept(i);
+    }
+    long start = System.nanoTime();
+    for (int i = 0; i < reads; i++) {
+      operation.accept(i);
+    }
+    double microsPerOp = (System.nanoTime() - start) / 1_000.0 / reads;
+    System.out.printf(Locale.ROOT, "%-32s %8.1f us/op%n", label, microsPerOp);
+  }
+}
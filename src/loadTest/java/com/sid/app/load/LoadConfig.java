@@ -0,0 +1,80 @@
+package com.sid.app.load;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Settings of a load run, read from {@code load.*} system properties.
+ *
+ * <ul>
+ *   <li>{@code load.rate} - requests per second, issued at a constant arrival rate (default 200)
+ *   <li>{@code load.duration} - measured duration in seconds (default 30)
+ *   <li>{@code load.warmup} - warm-up duration in seconds, not recorded (default 10)
+ *   <li>{@code load.mix} - weighted operation mix (default {@code
+ *       create:10,get:60,list:5,update:15,delete:10})
+ *   <li>{@code load.employees} - employees created before the run (default 1000)
+ *   <li>{@code load.maxInFlight} - requests outstanding before new arrivals count as dropped
+ *       (default 2000)
+ *   <li>{@code load.target} - base URL of an already running app; when unset the app and an
+ *       in-process Redis stand-in are started in this JVM
+ *   <li>{@code load.label} - name of the run, used for the report files (default {@code local})
+ *   <li>{@code load.reportDir} - directory for reports (default {@code build/reports/load})
+ *   <li>{@code load.baseline} - JSON report of an earlier run to compare against
+ *   <li>{@code load.logLevel} - log level of the in-process app (default {@code WARN})
+ * </ul>
+ *
+ * @author Siddhant Patni
+ */
+public record LoadConfig(
+    int rate,
+    Duration duration,
+    Duration warmup,
+    Map<Operation, Integer> mix,
+    int employees,
+    int maxInFlight,
+    String target,
+    String label,
+    String reportDir,
+    String baseline,
+    String logLevel) {
+
+  public static LoadConfig fromSystemProperties() {
+    return new LoadConfig(
+        Integer.getInteger("load.rate", 200),
+        Duration.ofSeconds(Long.getLong("load.duration", 30)),
+        Duration.ofSeconds(Long.getLong("load.warmup", 10)),
+        parseMix(System.getProperty("load.mix", "create:10,get:60,list:5,update:15,delete:10")),
+        Integer.getInteger("load.employees", 1000),
+        Integer.getInteger("load.maxInFlight", 2000),
+        blankToNull(System.getProperty("load.target")),
+        System.getProperty("load.label", "local"),
+        System.getProperty("load.reportDir", "build/reports/load"),
+        blankToNull(System.getProperty("load.baseline")),
+        System.getProperty("load.logLevel", "WARN"));
+  }
+
+  /** Parses a mix such as {@code get:80,list:20} into operation weights. */
+  static Map<Operation, Integer> parseMix(String mix) {
+    Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+    for (String entry : mix.split(",")) {
+      String[] parts = entry.trim().split(":");
+      if (parts.length != 2) {
+        throw new IllegalArgumentException("Invalid load.mix entry: " + entry);
+      }
+      int weight = Integer.parseInt(parts[1].trim());
+      if (weight > 0) {
+        weights.put(Operation.valueOf(parts[0].trim().toUpperCase(Locale.ROOT)), weight);
+      }
+    }
+    if (weights.isEmpty()) {
+      throw new IllegalArgumentException("load.mix selects no operations: " + mix);
+    }
+    return weights;
+  }
+
+  private static String blankToNull(String value) {
+    return value == null || value.isBlank() ? null : value;
+  }
+}
@@ -0,0 +1,150 @@
+package com.sid.app.load;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load generator: requests are issued at a constant arrival rate regardless of how fast
+ * earlier requests complete, and each latency is measured from the request's intended start time. A
+ * slow server therefore shows up as higher latency instead of silently lowering the offered load.
+ *
+ * @author Siddhant Patni
+ */
+public class LoadGenerator {
+
+  /** Outcome of one load phase. */
+  public record Result(
+      Map<Operation, OperationStats> stats, Duration elapsed, long dropped, long skipped) {}
+
+  private final LoadConfig config;
+  private final String baseUrl;
+  private final HttpClient client;
+  private final Operation[] weightedOperations;
+  private final List<String> ids = new ArrayList<>();
+  private final AtomicLong nextId = new AtomicLong();
+
+  public LoadGenerator(LoadConfig config, String baseUrl) {
+    this.config = config;
+    this.baseUrl = baseUrl;
+    this.client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    List<Operation> weighted = new ArrayList<>();
+    config
+        .mix()
+        .forEach(
+            (operation, weight) ->
+                weighted.addAll(java.util.Collections.nCopies(weight, operation)));
+    this.weightedOperations = weighted.toArray(Operation[]::new);
+  }
+
+  /** Creates the initial employees sequentially so the run starts from a known data set. */
+  public void preload() throws Exception {
+    for (int i = 0; i < config.employees(); i++) {
+      String id = newId();
+      HttpResponse<Void> response =
+          client.send(
+              Operation.CREATE.request(baseUrl, id), HttpResponse.BodyHandlers.discarding());
+      if (response.statusCode() / 100 != 2) {
+        throw new IllegalStateException("Preload failed with HTTP " + response.statusCode());
+      }
+      addId(id);
+    }
+  }
+
+  /** Runs the operation mix at the configured rate for the given duration. */
+  public Result run(Duration duration) throws InterruptedException {
+    Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+    for (Operation operation : Operation.values()) {
+      stats.put(operation, new OperationStats());
+    }
+    AtomicInteger inFlight = new AtomicInteger();
+    long dropped = 0;
+    long skipped = 0;
+    long start = System.nanoTime();
+    long end = start + duration.toNanos();
+
+    for (long i = 0; ; i++) {
+      long intendedStart = start + i * 1_000_000_000L / config.rate();
+      if (intendedStart >= end) {
+        break;
+      }
+      long wait = intendedStart - System.nanoTime();
+      if (wait > 0) {
+        LockSupport.parkNanos(wait);
+      }
+      Operation operation =
+          weightedOperations[ThreadLocalRandom.current().nextInt(weightedOperations.length)];
+      if (inFlight.get() >= config.maxInFlight()) {
+        dropped++;
+        continue;
+      }
+      String id = idFor(operation);
+      if (id == null) {
+        skipped++;
+        continue;
+      }
+      inFlight.incrementAndGet();
+      OperationStats operationStats = stats.get(operation);
+      client
+          .sendAsync(operation.request(baseUrl, id), HttpResponse.BodyHandlers.discarding())
+          .whenComplete(
+              (response, error) -> {
+                long latency = System.nanoTime() - intendedStart;
+                if (error != null) {
+                  operationStats.recordFailure(latency);
+                } else {
+                  operationStats.record(latency, response.statusCode());
+                  if (operation == Operation.CREATE && response.statusCode() / 100 == 2) {
+                    addId(id);
+                  }
+                }
+                inFlight.decrementAndGet();
+              });
+    }
+
+    long drainDeadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+    while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+      Thread.sleep(10);
+    }
+    return new Result(stats, Duration.ofNanos(System.nanoTime() - start), dropped, skipped);
+  }
+
+  private String idFor(Operation operation) {
+    return switch (operation) {
+      case CREATE -> newId();
+      case LIST -> "";
+      case GET, UPDATE -> randomId(false);
+      case DELETE -> randomId(true);
+    };
+  }
+
+  private String newId() {
+    return "load-" + nextId.incrementAndGet();
+  }
+
+  private synchronized void addId(String id) {
+    ids.add(id);
+  }
+
+  /** Picks a random known employee; deletes take it out of the pool so it is not reused. */
+  private synchronized String randomId(boolean remove) {
+    if (ids.isEmpty()) {
+      return null;
+    }
+    int index = ThreadLocalRandom.current().nextInt(ids.size());
+    String id = ids.get(index);
+    if (remove) {
+      ids.set(index, ids.get(ids.size() - 1));
+      ids.remove(ids.size() - 1);
+    }
+    return id;
+  }
+}
@@ -0,0 +1,79 @@
+package com.sid.app.load;
+
+import com.github.fppt.jedismock.RedisServer;
+import com.sid.app.RedisDbIntegrationServiceApp;
+import java.io.IOException;
+import java.nio.file.Path;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Entry point of {@code gradle loadTest}. Unless {@code load.target} points at a running instance,
+ * it starts an in-process Redis stand-in (jedis-mock, speaking RESP over a local socket) and the
+ * service on a random port, preloads employees, runs an unrecorded warm-up and then the measured
+ * constant-rate run, and writes the report.
+ *
+ * @author Siddhant Patni
+ */
+public final class LoadHarness {
+
+  private LoadHarness() {}
+
+  public static void main(String[] args) throws Exception {
+    LoadConfig config = LoadConfig.fromSystemProperties();
+    try (Target target = Target.start(config)) {
+      LoadGenerator generator = new LoadGenerator(config, target.baseUrl());
+      System.out.printf("Preloading %d employees into %s%n", config.employees(), target.baseUrl());
+      generator.preload();
+      if (!config.warmup().isZero()) {
+        System.out.printf("Warming up for %ss%n", config.warmup().toSeconds());
+        generator.run(config.warmup());
+      }
+      System.out.printf(
+          "Measuring %d req/s for %ss%n", config.rate(), config.duration().toSeconds());
+      LoadGenerator.Result result = generator.run(config.duration());
+      Path dir = new LoadReport(config, result).write(System.out);
+      System.out.printf("%nReports written to %s%n", dir.toAbsolutePath());
+    }
+  }
+
+  /** The system under test: either an external URL or an in-process app with its own Redis. */
+  private record Target(String baseUrl, RedisServer redis, ConfigurableApplicationContext context)
+      implements AutoCloseable {
+
+    static Target start(LoadConfig config) throws IOException {
+      if (config.target() != null) {
+        return new Target(config.target(), null, null);
+      }
+      RedisServer redis = RedisServer.newRedisServer().start();
+      ConfigurableApplicationContext context =
+          new SpringApplicationBuilder(RedisDbIntegrationServiceApp.class)
+              .web(WebApplicationType.SERVLET)
+              // command-line arguments, so they win over application.yml
+              .run(
+                  "--server.port=0",
+                  "--spring.main.banner-mode=off",
+                  "--spring.data.redis.host=" + redis.getHost(),
+                  "--spring.data.redis.port=" + redis.getBindPort(),
+                  "--logging.level.root=" + config.logLevel(),
+                  "--logging.level.com.sid=" + config.logLevel(),
+                  "--logging.level.org.springframework=" + config.logLevel(),
+                  "--logging.level.org.springframework.data.redis=" + config.logLevel(),
+                  "--logging.level.io.lettuce.core=" + config.logLevel());
+      int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+      return new Target("http://localhost:" + port, redis, context);
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (context != null) {
+        context.close();
+      }
+      if (redis != null) {
+        redis.stop();
+      }
+    }
+  }
+}
@@ -0,0 +1,182 @@
+package com.sid.app.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Summarises a load run: prints a latency table, writes a JSON summary and HdrHistogram percentile
+ * distributions ({@code .hgrm}, plottable with the HdrHistogram plotter) named after the run label,
+ * and optionally compares against the JSON summary of a previous build.
+ *
+ * @author Siddhant Patni
+ */
+public class LoadReport {
+
+  private static final double MICROS_PER_MILLI = 1000.0;
+
+  private final LoadConfig config;
+  private final LoadGenerator.Result result;
+  private final ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+  public LoadReport(LoadConfig config, LoadGenerator.Result result) {
+    this.config = config;
+    this.result = result;
+  }
+
+  /** Prints the summary, writes report files and returns the directory they were written to. */
+  public Path write(PrintStream out) throws IOException {
+    Map<String, Object> summary = summary();
+    print(out, summary);
+
+    Path dir = Path.of(config.reportDir());
+    Files.createDirectories(dir);
+    mapper.writeValue(dir.resolve(config.label() + ".json").toFile(), summary);
+    writeDistribution(dir.resolve(config.label() + "-all.hgrm"), combined());
+    for (Map.Entry<Operation, OperationStats> entry : result.stats().entrySet()) {
+      if (entry.getValue().count() > 0) {
+        String name = entry.getKey().name().toLowerCase(Locale.ROOT);
+        writeDistribution(
+            dir.resolve(config.label() + "-" + name + ".hgrm"), entry.getValue().histogram());
+      }
+    }
+
+    if (config.baseline() != null) {
+      compare(out, summary, mapper.readTree(Path.of(config.baseline()).toFile()));
+    }
+    return dir;
+  }
+
+  private Map<String, Object> summary() {
+    double seconds = result.elapsed().toNanos() / 1e9;
+    Map<String, Object> summary = new LinkedHashMap<>();
+    summary.put("label", config.label());
+    summary.put("timestamp", Instant.now().toString());
+    summary.put("targetRate", config.rate());
+    summary.put("durationSeconds", config.duration().toSeconds());
+    summary.put("warmupSeconds", config.warmup().toSeconds());
+    summary.put("preloadedEmployees", config.employees());
+    summary.put("dropped", result.dropped());
+    summary.put("skipped", result.skipped());
+
+    Map<String, Object> operations = new LinkedHashMap<>();
+    long completed = 0;
+    for (Map.Entry<Operation, OperationStats> entry : result.stats().entrySet()) {
+      OperationStats stats = entry.getValue();
+      if (stats.count() == 0) {
+        continue;
+      }
+      completed += stats.count();
+      Map<String, Object> operation = latencies(stats.histogram(), stats.count() / seconds);
+      operation.put("ok", stats.ok());
+      operation.put("notFound", stats.notFound());
+      operation.put("rejected", stats.rejected());
+      operation.put("serverErrors", stats.serverErrors());
+      operation.put("failures", stats.failures());
+      operations.put(entry.getKey().name().toLowerCase(Locale.ROOT), operation);
+    }
+    summary.put("overall", latencies(combined(), completed / seconds));
+    summary.put("operations", operations);
+    return summary;
+  }
+
+  private static Map<String, Object> latencies(Histogram histogram, double throughput) {
+    Map<String, Object> values = new LinkedHashMap<>();
+    values.put("count", histogram.getTotalCount());
+    values.put("throughput", round(throughput));
+    values.put("p50Ms", millis(histogram.getValueAtPercentile(50)));
+    values.put("p99Ms", millis(histogram.getValueAtPercentile(99)));
+    values.put("p999Ms", millis(histogram.getValueAtPercentile(99.9)));
+    values.put("maxMs", millis(histogram.getMaxValue()));
+    return values;
+  }
+
+  private Histogram combined() {
+    Histogram all = new Histogram(3);
+    result.stats().values().forEach(stats -> all.add(stats.histogram()));
+    return all;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void print(PrintStream out, Map<String, Object> summary) {
+    out.printf(
+        Locale.ROOT,
+        "%nLoad run '%s': target %s req/s for %ss (dropped %s, skipped %s)%n",
+        summary.get("label"),
+        summary.get("targetRate"),
+        summary.get("durationSeconds"),
+        summary.get("dropped"),
+        summary.get("skipped"));
+    out.printf(
+        Locale.ROOT,
+        "%-8s %9s %10s %9s %9s %9s %9s %6s %6s %6s%n",
+        "op",
+        "count",
+        "req/s",
+        "p50 ms",
+        "p99 ms",
+        "p99.9 ms",
+        "max ms",
+        "429",
+        "5xx",
+        "err");
+    Map<String, Object> operations = (Map<String, Object>) summary.get("operations");
+    operations.forEach((name, values) -> printRow(out, name, (Map<String, Object>) values));
+    printRow(out, "overall", (Map<String, Object>) summary.get("overall"));
+  }
+
+  private static void printRow(PrintStream out, String name, Map<String, Object> values) {
+    out.printf(
+        Locale.ROOT,
+        "%-8s %9s %10s %9s %9s %9s %9s %6s %6s %6s%n",
+        name,
+        values.get("count"),
+        values.get("throughput"),
+        values.get("p50Ms"),
+        values.get("p99Ms"),
+        values.get("p999Ms"),
+        values.get("maxMs"),
+        values.getOrDefault("rejected", "-"),
+        values.getOrDefault("serverErrors", "-"),
+        values.getOrDefault("failures", "-"));
+  }
+
+  @SuppressWarnings("unchecked")
+  private void compare(PrintStream out, Map<String, Object> summary, JsonNode baseline) {
+    out.printf("%nCompared with baseline '%s':%n", baseline.path("label").asText());
+    Map<String, Object> current = (Map<String, Object>) summary.get("overall");
+    JsonNode previous = baseline.path("overall");
+    for (String metric : new String[] {"throughput", "p50Ms", "p99Ms", "p999Ms"}) {
+      double now = ((Number) current.get(metric)).doubleValue();
+      double before = previous.path(metric).asDouble();
+      String change =
+          before == 0
+              ? "n/a"
+              : String.format(Locale.ROOT, "%+.1f%%", (now - before) * 100 / before);
+      out.printf(Locale.ROOT, "  %-10s %10.3f -> %10.3f  (%s)%n", metric, before, now, change);
+    }
+  }
+
+  private static void writeDistribution(Path file, Histogram histogram) throws IOException {
+    try (PrintStream stream = new PrintStream(Files.newOutputStream(file))) {
+      histogram.outputPercentileDistribution(stream, MICROS_PER_MILLI);
+    }
+  }
+
+  private static double millis(long micros) {
+    return round(micros / MICROS_PER_MILLI);
+  }
+
+  private static double round(double value) {
+    return Math.round(value * 1000) / 1000.0;
+  }
+}
@@ -0,0 +1,52 @@
+package com.sid.app.load;
+
+import com.sid.app.constants.AppConstants;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Employee API operations issued by the load harness.
+ *
+ * @author Siddhant Patni
+ */
+public enum Operation {
+  CREATE,
+  GET,
+  LIST,
+  UPDATE,
+  DELETE;
+
+  private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+  /** Builds the HTTP request of this operation against the given employee. */
+  public HttpRequest request(String baseUrl, String id) {
+    String collection = baseUrl + AppConstants.EMPLOYEE_ENDPOINT;
+    HttpRequest.Builder builder = HttpRequest.newBuilder().timeout(REQUEST_TIMEOUT);
+    return switch (this) {
+      case CREATE -> builder
+          .uri(URI.create(collection))
+          .header("Content-Type", "application/json")
+          .POST(HttpRequest.BodyPublishers.ofString(body(id, "Load Employee " + id)))
+          .build();
+      case GET -> builder.uri(URI.create(collection + "/" + id)).GET().build();
+      case LIST -> builder.uri(URI.create(collection)).GET().build();
+      case UPDATE -> builder
+          .uri(URI.create(collection + "/" + id))
+          .header("Content-Type", "application/json")
+          .PUT(HttpRequest.BodyPublishers.ofString(body(id, "Updated Employee " + id)))
+          .build();
+      case DELETE -> builder.uri(URI.create(collection + "/" + id)).DELETE().build();
+    };
+  }
+
+  private static String body(String id, String name) {
+    return String.format(
+        Locale.ROOT,
+        "{\"id\":\"%s\",\"name\":\"%s\",\"department\":\"Load\",\"salary\":%d}",
+        id,
+        name,
+        Math.abs(id.hashCode() % 100_000));
+  }
+}
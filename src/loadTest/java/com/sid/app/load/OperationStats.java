@@ -0,0 +1,78 @@
+package com.sid.app.load;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latency histogram and outcome counters of one operation. Latencies are recorded in microseconds
+ * from the intended start time of each request, so queueing delays caused by a saturated system are
+ * included rather than hidden (no coordinated omission).
+ *
+ * @author Siddhant Patni
+ */
+public class OperationStats {
+
+  private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+  private final Histogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+  private final LongAdder ok = new LongAdder();
+  private final LongAdder notFound = new LongAdder();
+  private final LongAdder rejected = new LongAdder();
+  private final LongAdder serverErrors = new LongAdder();
+  private final LongAdder failures = new LongAdder();
+
+  /** Records a completed request with its HTTP status. */
+  public void record(long latencyNanos, int status) {
+    recordLatency(latencyNanos);
+    if (status >= 200 && status < 300) {
+      ok.increment();
+    } else if (status == 404) {
+      notFound.increment();
+    } else if (status == 429) {
+      rejected.increment();
+    } else {
+      serverErrors.increment();
+    }
+  }
+
+  /** Records a request that failed without an HTTP response. */
+  public void recordFailure(long latencyNanos) {
+    recordLatency(latencyNanos);
+    failures.increment();
+  }
+
+  private void recordLatency(long latencyNanos) {
+    long micros = Math.max(1, TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+    histogram.recordValue(Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+  }
+
+  public Histogram histogram() {
+    return histogram;
+  }
+
+  public long count() {
+    return histogram.getTotalCount();
+  }
+
+  public long ok() {
+    return ok.sum();
+  }
+
+  public long notFound() {
+    return notFound.sum();
+  }
+
+  public long rejected() {
+    return rejected.sum();
+  }
+
+  public long serverErrors() {
+    return serverErrors.sum();
+  }
+
+  public long failures() {
+    return failures.sum();
+  }
+}
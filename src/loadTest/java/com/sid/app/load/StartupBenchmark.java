@@ -0,0 +1,210 @@
+package com.sid.app.load;
+
+import com.github.fppt.jedismock.RedisServer;
+import com.sid.app.constants.AppConstants;
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entry point of {@code gradle startupBenchmark}. Launches the extracted application in separate
+ * JVMs with the plain, AOT, AOT + AppCDS and AOT + AppCDS + warm-up settings against an in-process
+ * Redis stand-in, and reports the median time from process start to readiness UP, the latency of
+ * the first API request after that, and their sum.
+ *
+ * <ul>
+ *   <li>{@code startup.runs} - launches per variant (default 5)
+ *   <li>{@code startup.employees} - employees seeded before measuring (default 500)
+ * </ul>
+ *
+ * @author Siddhant Patni
+ */
+public final class StartupBenchmark {
+
+  private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(60);
+
+  private record Variant(String name, List<String> jvmArgs, List<String> appArgs) {}
+
+  private record Sample(long readyMillis, long firstRequestMillis) {}
+
+  private static final List<Variant> VARIANTS =
+      List.of(
+          new Variant("plain", List.of(), List.of()),
+          new Variant("aot", List.of("-Dspring.aot.enabled=true"), List.of()),
+          new Variant(
+              "aot+cds",
+              List.of("-XX:SharedArchiveFile=application.jsa", "-Dspring.aot.enabled=true"),
+              List.of()),
+          new Variant(
+              "aot+cds+warmup",
+              List.of("-XX:SharedArchiveFile=application.jsa", "-Dspring.aot.enabled=true"),
+              List.of("--employee.warmup.enabled=true")));
+
+  private final HttpClient client =
+      HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+  private final Path appDir = Path.of(System.getProperty("startup.appDir"));
+  private final String jar = System.getProperty("startup.jar");
+  private final String java = System.getProperty("startup.java", "java");
+  private final int redisPort;
+
+  private StartupBenchmark(int redisPort) {
+    this.redisPort = redisPort;
+  }
+
+  public static void main(String[] args) throws Exception {
+    int runs = Integer.getInteger("startup.runs", 5);
+    RedisServer redis = RedisServer.newRedisServer().start();
+    try {
+      StartupBenchmark benchmark = new StartupBenchmark(redis.getBindPort());
+      benchmark.seed(Integer.getInteger("startup.employees", 500));
+
+      System.out.printf(
+          Locale.ROOT,
+          "%n%-16s %12s %18s %12s%n",
+          "variant",
+          "ready ms",
+          "first request ms",
+          "total ms");
+      for (Variant variant : VARIANTS) {
+        List<Sample> samples = new ArrayList<>();
+        for (int i = 0; i < runs; i++) {
+          samples.add(benchmark.measure(variant));
+        }
+        long ready = median(samples.stream().mapToLong(Sample::readyMillis).toArray());
+        long first = median(samples.stream().mapToLong(Sample::firstRequestMillis).toArray());
+        long total =
+            median(
+                samples.stream()
+                    .mapToLong(sample -> sample.readyMillis() + sample.firstRequestMillis())
+                    .toArray());
+        System.out.printf(
+            Locale.ROOT, "%-16s %12d %18d %12d%n", variant.name(), ready, first, total);
+      }
+      System.out.printf("(median of %d launches each)%n", runs);
+    } finally {
+      redis.stop();
+    }
+  }
+
+  /** Starts the application once, untimed, to create the employees the warm-up will load. */
+  private void seed(int employees) throws Exception {
+    int port = freePort();
+    Process process = start(VARIANTS.get(0), port);
+    try {
+      awaitReady(process, port, System.nanoTime());
+      for (int i = 0; i < employees; i++) {
+        HttpResponse<Void> response =
+            client.send(
+                Operation.CREATE.request(baseUrl(port), "startup-" + i),
+                HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() / 100 != 2) {
+          throw new IllegalStateException("Seeding failed with HTTP " + response.statusCode());
+        }
+      }
+    } finally {
+      stop(process);
+    }
+  }
+
+  private Sample measure(Variant variant) throws Exception {
+    int port = freePort();
+    long start = System.nanoTime();
+    Process process = start(variant, port);
+    try {
+      long ready = awaitReady(process, port, start);
+      long requestStart = System.nanoTime();
+      HttpResponse<Void> response =
+          client.send(
+              HttpRequest.newBuilder(URI.create(baseUrl(port) + AppConstants.EMPLOYEE_ENDPOINT))
+                  .GET()
+                  .build(),
+              HttpResponse.BodyHandlers.discarding());
+      if (response.statusCode() != 200) {
+        throw new IllegalStateException("First request failed with HTTP " + response.statusCode());
+      }
+      return new Sample(ready, (System.nanoTime() - requestStart) / 1_000_000);
+    } finally {
+      stop(process);
+    }
+  }
+
+  private Process start(Variant variant, int port) throws IOException {
+    List<String> command = new ArrayList<>();
+    command.add(java);
+    command.addAll(variant.jvmArgs());
+    command.addAll(Arrays.asList("-jar", jar));
+    command.addAll(
+        List.of(
+            "--server.port=" + port,
+            "--spring.data.redis.host=localhost",
+            "--spring.data.redis.port=" + redisPort,
+            "--logging.level.root=WARN",
+            "--logging.level.com.sid=WARN",
+            "--logging.level.org.springframework.data.redis=WARN"));
+    command.addAll(variant.appArgs());
+    File log = appDir.resolve("startup-" + variant.name().replace('+', '-') + ".log").toFile();
+    return new ProcessBuilder(command)
+        .directory(appDir.toFile())
+        .redirectErrorStream(true)
+        .redirectOutput(log)
+        .start();
+  }
+
+  /** Polls the readiness probe and returns the milliseconds since {@code start} until it is UP. */
+  private long awaitReady(Process process, int port, long start) throws Exception {
+    HttpRequest readiness =
+        HttpRequest.newBuilder(URI.create(baseUrl(port) + "/actuator/health/readiness"))
+            .GET()
+            .build();
+    long deadline = start + STARTUP_TIMEOUT.toNanos();
+    while (System.nanoTime() < deadline) {
+      if (!process.isAlive()) {
+        throw new IllegalStateException(
+            "Application exited with code " + process.exitValue() + ", see " + appDir);
+      }
+      try {
+        if (client.send(readiness, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+          return (System.nanoTime() - start) / 1_000_000;
+        }
+      } catch (IOException notListeningYet) {
+        // server socket not open yet
+      }
+      Thread.sleep(5);
+    }
+    throw new IllegalStateException("Application not ready within " + STARTUP_TIMEOUT);
+  }
+
+  private static void stop(Process process) throws InterruptedException {
+    process.destroy();
+    if (!process.waitFor(STARTUP_TIMEOUT.toSeconds(), TimeUnit.SECONDS)) {
+      process.destroyForcibly().waitFor();
+    }
+  }
+
+  private static String baseUrl(int port) {
+    return "http://localhost:" + port;
+  }
+
+  private static int freePort() throws IOException {
+    try (ServerSocket socket = new ServerSocket(0)) {
+      return socket.getLocalPort();
+    }
+  }
+
+  private static long median(long[] values) {
+    long[] sorted = values.clone();
+    Arrays.sort(sorted);
+    return sorted[sorted.length / 2];
+  }
+}
@@ -0,0 +1,66 @@
+package com.sid.app.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Properties for the adaptive concurrency limits of the employee API. Cheap point operations and
+ * expensive list, scan and bulk operations each get their own limit, adjusted with AIMD from the
+ * observed request and Redis latency.
+ *
+ * @author Siddhant Patni
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "employee.concurrency")
+public class ConcurrencyLimitProperties {
+
+  /** Enables load shedding; when disabled every request is admitted. */
+  private boolean enabled = true;
+
+  /** Factor the limit is multiplied by when a request is slow or fails. */
+  private double backoffRatio = 0.9;
+
+  /** Limits for single-employee reads and writes. */
+  private Budget point = new Budget(50, 5, 500, Duration.ofMillis(100), Duration.ofMillis(50));
+
+  /** Limits for list, scan and bulk operations. */
+  private Budget bulk = new Budget(8, 1, 64, Duration.ofSeconds(1), Duration.ofMillis(500));
+
+  /** Limits and latency targets of one budget. */
+  @Data
+  public static class Budget {
+
+    /** Concurrency limit at startup. */
+    private int initialLimit;
+
+    /** Lower bound for the limit. */
+    private int minLimit;
+
+    /** Upper bound for the limit. */
+    private int maxLimit;
+
+    /** Requests slower than this end-to-end cause a multiplicative decrease. */
+    private Duration latencyThreshold;
+
+    /** Requests that spent longer than this in Redis cause a multiplicative decrease. */
+    private Duration redisLatencyThreshold;
+
+    public Budget() {}
+
+    public Budget(
+        int initialLimit,
+        int minLimit,
+        int maxLimit,
+        Duration latencyThreshold,
+        Duration redisLatencyThreshold) {
+      this.initialLimit = initialLimit;
+      this.minLimit = minLimit;
+      this.maxLimit = maxLimit;
+      this.latencyThreshold = latencyThreshold;
+      this.redisLatencyThreshold = redisLatencyThreshold;
+    }
+  }
+}
@@ -0,0 +1,22 @@
+package com.sid.app.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Properties for batch upserts and deletes, each of which runs as one Lua script in Redis.
+ *
+ * @author Siddhant Patni
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "employee.batch")
+public class EmployeeBatchProperties {
+
+  /** Largest number of items accepted in one batch request; bounds how long a script runs. */
+  private int maxItems = 1000;
+
+  /** Employees removed per script when deleting a whole department. */
+  private int departmentChunkSize = 500;
+}
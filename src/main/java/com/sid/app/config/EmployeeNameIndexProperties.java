@@ -0,0 +1,25 @@
+package com.sid.app.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Properties for the employee name autocomplete index.
+ *
+ * @author Siddhant Patni
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "employee.name-index")
+public class EmployeeNameIndexProperties {
+
+  /** Rebuild the name index from the stored employees when the application starts. */
+  private boolean rebuildOnStartup = false;
+
+  /** Number of suggestions returned when the request does not specify a limit. */
+  private int defaultLimit = 10;
+
+  /** Upper bound for the number of suggestions a single request may ask for. */
+  private int maxLimit = 100;
+}
@@ -0,0 +1,37 @@
+package com.sid.app.config;
+
+import com.sid.app.repository.BlobEmployeeStore;
+import com.sid.app.repository.EmployeeStore;
+import com.sid.app.repository.FieldHashEmployeeStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Selects the active {@link EmployeeStore} from {@code employee.storage.mode}. Both layouts stay
+ * available as beans so that the blob layout can be migrated into the field-per-hash layout.
+ *
+ * @author Siddhant Patni
+ */
+@Slf4j
+@Configuration
+public class EmployeeStorageConfig {
+
+  /**
+   * Exposes the store for the configured storage mode as the primary EmployeeStore.
+   *
+   * @return the active EmployeeStore
+   */
+  @Bean
+  @Primary
+  public EmployeeStore employeeStore(
+      EmployeeStorageProperties properties,
+      BlobEmployeeStore blobEmployeeStore,
+      FieldHashEmployeeStore fieldHashEmployeeStore) {
+    log.info("Employee storage mode: {}", properties.getMode());
+    return properties.getMode() == EmployeeStorageProperties.Mode.HASH
+        ? fieldHashEmployeeStore
+        : blobEmployeeStore;
+  }
+}
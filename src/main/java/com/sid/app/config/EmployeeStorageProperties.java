@@ -0,0 +1,38 @@
+package com.sid.app.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Properties controlling how employees are laid out in Redis.
+ *
+ * <p>{@code BLOB} keeps every employee as one serialized value inside the single {@code Employee}
+ * hash. {@code HASH} keeps every employee in its own {@code Employee:<id>} hash with one Redis
+ * field per attribute, so projections only transfer the requested fields.
+ *
+ * @author Siddhant Patni
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "employee.storage")
+public class EmployeeStorageProperties {
+
+  /** Storage layouts supported by the service. */
+  public enum Mode {
+    BLOB,
+    HASH
+  }
+
+  /** Active storage layout. */
+  private Mode mode = Mode.BLOB;
+
+  /** Copy blob records into the field-per-hash layout when the application starts. */
+  private boolean migrateOnStartup = false;
+
+  /** Remove each blob record once it has been copied into the field-per-hash layout. */
+  private boolean deleteSourceAfterMigration = false;
+
+  /** Number of blob records read per HSCAN step and written per pipeline during migration. */
+  private int migrationBatchSize = 500;
+}
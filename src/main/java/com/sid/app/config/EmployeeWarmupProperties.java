@@ -0,0 +1,27 @@
+package com.sid.app.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Properties for the startup warm-up that runs before the instance reports itself ready.
+ *
+ * @author Siddhant Patni
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "employee.warmup")
+public class EmployeeWarmupProperties {
+
+  /** Run the warm-up on startup; readiness stays DOWN until it has finished. */
+  private boolean enabled = false;
+
+  /** Load every employee into the local snapshot cache (bounded by its maximum size). */
+  private boolean preloadAll = true;
+
+  /** Employees read individually during warm-up, e.g. the most requested ones. */
+  private List<String> hotIds = new ArrayList<>();
+}
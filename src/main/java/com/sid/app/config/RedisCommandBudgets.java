@@ -0,0 +1,92 @@
+package com.sid.app.config;
+
+import io.lettuce.core.TimeoutOptions;
+import io.lettuce.core.protocol.ProtocolKeyword;
+import io.lettuce.core.protocol.RedisCommand;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lettuce timeout source that applies a per-operation latency budget to every Redis command based
+ * on its type: point reads, bulk reads and writes each get their own budget.
+ *
+ * @author Siddhant Patni
+ */
+public class RedisCommandBudgets extends TimeoutOptions.TimeoutSource {
+
+  private static final Set<String> POINT_READS =
+      Set.of(
+          "GET",
+          "MGET",
+          "EXISTS",
+          "TYPE",
+          "HGET",
+          "HMGET",
+          "HGETALL",
+          "HEXISTS",
+          "HLEN",
+          "SISMEMBER",
+          "SCARD",
+          "ZSCORE",
+          "ZCARD",
+          "ZRANGEBYLEX",
+          "ZLEXCOUNT",
+          "STRLEN",
+          "LLEN",
+          "SRANDMEMBER",
+          "MEMORY",
+          "OBJECT",
+          "PING");
+
+  private static final Set<String> BULK_READS =
+      Set.of(
+          "HVALS",
+          "HKEYS",
+          "SMEMBERS",
+          "ZRANGE",
+          "ZRANGEBYSCORE",
+          "SCAN",
+          "HSCAN",
+          "SSCAN",
+          "ZSCAN",
+          "KEYS");
+
+  private final Duration readTimeout;
+  private final Duration bulkTimeout;
+  private final Duration writeTimeout;
+
+  public RedisCommandBudgets(RedisResilienceProperties properties) {
+    this.readTimeout = properties.getReadTimeout();
+    this.bulkTimeout = properties.getBulkTimeout();
+    this.writeTimeout = properties.getWriteTimeout();
+  }
+
+  /** Returns the latency budget for the given command type. */
+  public Duration budgetFor(ProtocolKeyword type) {
+    String name = type.toString();
+    if (POINT_READS.contains(name)) {
+      return readTimeout;
+    }
+    if (BULK_READS.contains(name)) {
+      return bulkTimeout;
+    }
+    return writeTimeout;
+  }
+
+  /** Returns the largest budget, used as the overall command timeout. */
+  public Duration maxBudget() {
+    Duration max = readTimeout.compareTo(bulkTimeout) > 0 ? readTimeout : bulkTimeout;
+    return max.compareTo(writeTimeout) > 0 ? max : writeTimeout;
+  }
+
+  @Override
+  public long getTimeout(RedisCommand<?, ?, ?> command) {
+    return budgetFor(command.getType()).toMillis();
+  }
+
+  @Override
+  public TimeUnit getTimeUnit() {
+    return TimeUnit.MILLISECONDS;
+  }
+}
@@ -1,16 +1,23 @@
 package com.sid.app.config;
 
+import io.lettuce.core.TimeoutOptions;
+import java.time.Duration;
+import org.springframework.boot.autoconfigure.data.redis.LettuceClientConfigurationBuilderCustomizer;
+import org.springframework.boot.autoconfigure.data.redis.LettuceClientOptionsBuilderCustomizer;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
-import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 /**
- * Configuration class for Redis integration. Defines beans for Redis connection factory and Redis
- * template. Uses Lettuce as the Redis client and configures serializers for keys and values.
+ * Configuration class for Redis integration. The Lettuce connection factory is auto-configured from
+ * {@code spring.data.redis}, including pooling, SSL, sentinel and cluster settings; this class only
+ * adds the per-operation latency budgets to it and defines the Redis templates with their key and
+ * value serializers.
  *
  * @author Siddhant Patni
  */
@@ -18,14 +25,34 @@ import org.springframework.data.redis.serializer.StringRedisSerializer;
 public class RedisConfig {
 
   /**
-   * Creates a RedisConnectionFactory using Lettuce. This factory manages connections to the Redis
-   * server.
+   * Applies the per-operation latency budgets from {@link RedisResilienceProperties} as Lettuce
+   * command timeouts, on top of the client options Spring Boot derives from {@code
+   * spring.data.redis}.
    *
-   * @return a LettuceConnectionFactory instance
+   * @return a customizer of the auto-configured Lettuce client options
    */
   @Bean
-  public RedisConnectionFactory redisConnectionFactory() {
-    return new LettuceConnectionFactory();
+  public LettuceClientOptionsBuilderCustomizer redisCommandBudgetsCustomizer(
+      RedisResilienceProperties resilienceProperties) {
+    RedisCommandBudgets budgets = new RedisCommandBudgets(resilienceProperties);
+    return builder ->
+        builder.timeoutOptions(TimeoutOptions.builder().timeoutSource(budgets).build());
+  }
+
+  /**
+   * Caps the overall command timeout at the largest latency budget, or at {@code
+   * spring.data.redis.timeout} if that is lower.
+   *
+   * @return a customizer of the auto-configured Lettuce client configuration
+   */
+  @Bean
+  public LettuceClientConfigurationBuilderCustomizer redisCommandTimeoutCustomizer(
+      RedisProperties redisProperties, RedisResilienceProperties resilienceProperties) {
+    Duration maxBudget = new RedisCommandBudgets(resilienceProperties).maxBudget();
+    Duration timeout = redisProperties.getTimeout();
+    Duration commandTimeout =
+        timeout != null && timeout.compareTo(maxBudget) < 0 ? timeout : maxBudget;
+    return builder -> builder.commandTimeout(commandTimeout);
   }
 
   /**
@@ -35,11 +62,23 @@ public class RedisConfig {
    * @return a configured RedisTemplate instance
    */
   @Bean
-  public RedisTemplate<String, Object> redisTemplate() {
+  public RedisTemplate<String, Object> redisTemplate(
+      RedisConnectionFactory redisConnectionFactory) {
     RedisTemplate<String, Object> template = new RedisTemplate<>();
-    template.setConnectionFactory(redisConnectionFactory());
+    template.setConnectionFactory(redisConnectionFactory);
     template.setKeySerializer(new StringRedisSerializer());
     template.setValueSerializer(new GenericJackson2JsonRedisSerializer());
     return template;
   }
+
+  /**
+   * Configures a StringRedisTemplate for the field-per-hash layout, where every hash field and
+   * value is a plain string.
+   *
+   * @return a configured StringRedisTemplate instance
+   */
+  @Bean
+  public StringRedisTemplate stringRedisTemplate(RedisConnectionFactory redisConnectionFactory) {
+    return new StringRedisTemplate(redisConnectionFactory);
+  }
 }
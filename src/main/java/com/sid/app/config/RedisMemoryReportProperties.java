@@ -0,0 +1,39 @@
+package com.sid.app.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Properties for the {@code redismemory} actuator endpoint. The limits keep a report cheap enough
+ * to request against a production instance.
+ *
+ * @author Siddhant Patni
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "employee.memory-report")
+public class RedisMemoryReportProperties {
+
+  /** COUNT hint of every SCAN call; each batch of keys is then inspected in one pipeline. */
+  private int scanCount = 100;
+
+  /** Stop scanning after this many keys; the report is then marked incomplete. */
+  private int maxKeys = 10000;
+
+  /** SAMPLES argument of MEMORY USAGE, i.e. nested elements inspected per key. */
+  private int memorySamples = 5;
+
+  /** Employees encoded with each serializer to estimate the average value size. */
+  private int valueSamples = 50;
+
+  /** Number of entries in the largest and hottest key lists. */
+  private int topKeys = 10;
+
+  /** Keys using at least this much memory are flagged as big. */
+  private DataSize bigKeyMemory = DataSize.ofMegabytes(1);
+
+  /** Keys with at least this many elements (hash fields, set or sorted set members) are big. */
+  private long bigKeyElements = 10000;
+}
@@ -0,0 +1,50 @@
+package com.sid.app.config;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Configuration for the circuit breaker guarding Redis calls. Only Redis data-access failures,
+ * including command timeouts, are recorded; domain exceptions such as a missing employee are not.
+ * Scheduling is enabled so that queued writes can be replayed once Redis recovers.
+ *
+ * @author Siddhant Patni
+ */
+@Slf4j
+@Configuration
+@EnableScheduling
+public class RedisResilienceConfig {
+
+  /**
+   * Creates the circuit breaker shared by all Redis calls of the employee service.
+   *
+   * @return the Redis CircuitBreaker
+   */
+  @Bean
+  public CircuitBreaker redisCircuitBreaker(RedisResilienceProperties properties) {
+    CircuitBreakerConfig config =
+        CircuitBreakerConfig.custom()
+            .failureRateThreshold(properties.getFailureRateThreshold())
+            .slowCallRateThreshold(properties.getSlowCallRateThreshold())
+            .slowCallDurationThreshold(properties.getSlowCallDuration())
+            .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+            .slidingWindowSize(properties.getSlidingWindowSize())
+            .minimumNumberOfCalls(properties.getMinimumNumberOfCalls())
+            .waitDurationInOpenState(properties.getWaitDurationInOpenState())
+            .permittedNumberOfCallsInHalfOpenState(properties.getPermittedCallsInHalfOpenState())
+            .recordExceptions(DataAccessException.class)
+            .build();
+    CircuitBreaker circuitBreaker = CircuitBreaker.of("redis", config);
+    circuitBreaker
+        .getEventPublisher()
+        .onStateTransition(
+            event ->
+                log.warn("Redis circuit breaker transitioned: {}", event.getStateTransition()));
+    return circuitBreaker;
+  }
+}
@@ -0,0 +1,73 @@
+package com.sid.app.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Properties for the latency budgets and circuit breaker that protect the service from a slow or
+ * failing Redis.
+ *
+ * <p>The budgets are enforced by Lettuce as per-command timeouts, so a call never waits longer than
+ * the budget of its command type. Timeouts and connection errors are recorded by the circuit
+ * breaker; once it opens, reads are served from the local snapshot and writes are rejected or
+ * queued according to {@link #writeMode}.
+ *
+ * @author Siddhant Patni
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "employee.resilience")
+public class RedisResilienceProperties {
+
+  /** How writes are handled while Redis is unavailable. */
+  public enum WriteMode {
+    /** Fail fast with 503 Service Unavailable. */
+    REJECT,
+    /** Accept with 202 Accepted and replay in order once Redis recovers. */
+    QUEUE
+  }
+
+  /** Budget for point reads such as HGET, HMGET, HGETALL and ZRANGEBYLEX ... LIMIT. */
+  private Duration readTimeout = Duration.ofMillis(250);
+
+  /** Budget for unbounded reads such as HVALS, SMEMBERS and SCAN steps. */
+  private Duration bulkTimeout = Duration.ofSeconds(2);
+
+  /** Budget for writes, including MULTI/EXEC. */
+  private Duration writeTimeout = Duration.ofMillis(500);
+
+  /** Failure rate, in percent, at which the circuit breaker opens. */
+  private float failureRateThreshold = 50;
+
+  /** Rate of calls slower than {@link #slowCallDuration}, in percent, at which it opens. */
+  private float slowCallRateThreshold = 80;
+
+  /** Point calls slower than this count as slow even if they succeed; bulk calls are not timed. */
+  private Duration slowCallDuration = Duration.ofMillis(200);
+
+  /** Number of recent calls the failure and slow-call rates are computed over. */
+  private int slidingWindowSize = 20;
+
+  /** Minimum number of calls before the rates are evaluated. */
+  private int minimumNumberOfCalls = 10;
+
+  /** How long the breaker stays open before letting trial calls through. */
+  private Duration waitDurationInOpenState = Duration.ofSeconds(10);
+
+  /** Number of trial calls permitted while half-open. */
+  private int permittedCallsInHalfOpenState = 3;
+
+  /** How writes are handled while Redis is unavailable. */
+  private WriteMode writeMode = WriteMode.REJECT;
+
+  /** Maximum number of queued writes when {@link #writeMode} is QUEUE. */
+  private int writeQueueCapacity = 1000;
+
+  /** Delay between attempts to replay queued writes, in milliseconds. */
+  private long replayIntervalMs = 1000;
+
+  /** Maximum number of employees kept in the local last-known-good snapshot. */
+  private int snapshotMaxEntries = 10000;
+}
@@ -0,0 +1,23 @@
+package com.sid.app.config;
+
+import com.sid.app.limiter.ConcurrencyLimitInterceptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Web MVC configuration. Registers the concurrency limit interceptor for the API endpoints.
+ *
+ * @author Siddhant Patni
+ */
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+  @Autowired private ConcurrencyLimitInterceptor concurrencyLimitInterceptor;
+
+  @Override
+  public void addInterceptors(InterceptorRegistry registry) {
+    registry.addInterceptor(concurrencyLimitInterceptor).addPathPatterns("/api/**");
+  }
+}
@@ -7,4 +7,18 @@ public class AppConstants {
 
   /** Below Constants are used for Endpoint. */
   public static final String EMPLOYEE_ENDPOINT = "/api/v1/redis-db-integration-service/employee";
+
+  public static final String EMPLOYEE_AUTOCOMPLETE_ENDPOINT = EMPLOYEE_ENDPOINT + "/autocomplete";
+  public static final String EMPLOYEE_BATCH_UPSERT_ENDPOINT = EMPLOYEE_ENDPOINT + "/batch/upsert";
+  public static final String EMPLOYEE_BATCH_DELETE_ENDPOINT = EMPLOYEE_ENDPOINT + "/batch/delete";
+
+  /** Below Constants are used for Redis keys. */
+  public static final String EMPLOYEE_HASH_KEY = "Employee";
+
+  public static final String EMPLOYEE_KEY_PREFIX = "Employee:";
+  public static final String EMPLOYEE_ID_INDEX_KEY = "EmployeeIds";
+  public static final String EMPLOYEE_NAME_INDEX_KEY = "EmployeeNameIndex";
+  public static final String EMPLOYEE_DEPARTMENT_KEY = "EmployeeDepartment";
+  public static final String EMPLOYEE_NAME_INDEX_REBUILD_KEY = "EmployeeNameIndexRebuild";
+  public static final String EMPLOYEE_VERSION_KEY = "EmployeeVersions";
 }
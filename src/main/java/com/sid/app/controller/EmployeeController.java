@@ -1,10 +1,15 @@
 package com.sid.app.controller;
 
 import com.sid.app.constants.AppConstants;
+import com.sid.app.limiter.ConcurrencyBudget;
 import com.sid.app.model.Employee;
+import com.sid.app.model.EmployeeBatchResult;
+import com.sid.app.model.EmployeeSuggestion;
+import com.sid.app.model.EmployeeUpsert;
 import com.sid.app.service.EmployeeService;
 import com.sid.app.utils.ApplicationUtils;
 import java.util.List;
+import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
@@ -44,6 +49,22 @@ public class EmployeeController {
     return ResponseEntity.ok(employee);
   }
 
+  @GetMapping(
+      value = AppConstants.EMPLOYEE_ENDPOINT + "/{id}",
+      params = "fields",
+      produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<Map<String, Object>> getEmployeeFieldsById(
+      @PathVariable String id, @RequestParam List<String> fields) {
+    log.info("getEmployeeFieldsById() : START | ID -> {} | Fields -> {}", id, fields);
+
+    Map<String, Object> employee = employeeService.getEmployeeFieldsById(id, fields);
+
+    log.info("Response -> {}", ApplicationUtils.getJSONString(employee));
+    log.info("getEmployeeFieldsById() : END");
+    return ResponseEntity.ok(employee);
+  }
+
+  @ConcurrencyBudget(ConcurrencyBudget.Type.BULK)
   @GetMapping(value = AppConstants.EMPLOYEE_ENDPOINT, produces = MediaType.APPLICATION_JSON_VALUE)
   public ResponseEntity<List<Employee>> getAllEmployees() {
     log.info("getAllEmployees() : START");
@@ -55,6 +76,39 @@ public class EmployeeController {
     return ResponseEntity.ok(employees);
   }
 
+  @ConcurrencyBudget(ConcurrencyBudget.Type.BULK)
+  @GetMapping(
+      value = AppConstants.EMPLOYEE_ENDPOINT,
+      params = "fields",
+      produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<List<Map<String, Object>>> getAllEmployeeFields(
+      @RequestParam List<String> fields) {
+    log.info("getAllEmployeeFields() : START | Fields -> {}", fields);
+
+    List<Map<String, Object>> employees = employeeService.getAllEmployeeFields(fields);
+
+    log.debug("Response Size -> {}", employees.size());
+    log.info("getAllEmployeeFields() : END");
+    return ResponseEntity.ok(employees);
+  }
+
+  @GetMapping(
+      value = AppConstants.EMPLOYEE_AUTOCOMPLETE_ENDPOINT,
+      produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<List<EmployeeSuggestion>> autocompleteEmployees(
+      @RequestParam String prefix,
+      @RequestParam(required = false) String department,
+      @RequestParam(required = false) Integer limit) {
+    log.info(
+        "autocompleteEmployees() : START | Prefix -> {} | Department -> {}", prefix, department);
+
+    List<EmployeeSuggestion> suggestions = employeeService.autocomplete(prefix, department, limit);
+
+    log.debug("Response Size -> {}", suggestions.size());
+    log.info("autocompleteEmployees() : END");
+    return ResponseEntity.ok(suggestions);
+  }
+
   @PutMapping(
       value = AppConstants.EMPLOYEE_ENDPOINT + "/{id}",
       produces = MediaType.APPLICATION_JSON_VALUE)
@@ -88,4 +142,49 @@ public class EmployeeController {
     log.info("deleteEmployee() : END");
     return ResponseEntity.ok("Employee deleted successfully");
   }
+
+  @ConcurrencyBudget(ConcurrencyBudget.Type.BULK)
+  @PostMapping(
+      value = AppConstants.EMPLOYEE_BATCH_UPSERT_ENDPOINT,
+      produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<List<EmployeeBatchResult>> upsertEmployees(
+      @RequestBody List<EmployeeUpsert> request) {
+    log.info("upsertEmployees() : START | Items -> {}", request.size());
+
+    List<EmployeeBatchResult> results = employeeService.upsertEmployees(request);
+
+    log.debug("Response -> {}", ApplicationUtils.getJSONString(results));
+    log.info("upsertEmployees() : END");
+    return ResponseEntity.ok(results);
+  }
+
+  @ConcurrencyBudget(ConcurrencyBudget.Type.BULK)
+  @PostMapping(
+      value = AppConstants.EMPLOYEE_BATCH_DELETE_ENDPOINT,
+      produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<List<EmployeeBatchResult>> deleteEmployees(@RequestBody List<String> ids) {
+    log.info("deleteEmployees() : START | Items -> {}", ids.size());
+
+    List<EmployeeBatchResult> results = employeeService.deleteEmployees(ids);
+
+    log.debug("Response -> {}", ApplicationUtils.getJSONString(results));
+    log.info("deleteEmployees() : END");
+    return ResponseEntity.ok(results);
+  }
+
+  @ConcurrencyBudget(ConcurrencyBudget.Type.BULK)
+  @DeleteMapping(
+      value = AppConstants.EMPLOYEE_ENDPOINT,
+      params = "department",
+      produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<List<EmployeeBatchResult>> deleteEmployeesByDepartment(
+      @RequestParam String department) {
+    log.info("deleteEmployeesByDepartment() : START | Department -> {}", department);
+
+    List<EmployeeBatchResult> results = employeeService.deleteEmployeesByDepartment(department);
+
+    log.debug("Response Size -> {}", results.size());
+    log.info("deleteEmployeesByDepartment() : END");
+    return ResponseEntity.ok(results);
+  }
 }
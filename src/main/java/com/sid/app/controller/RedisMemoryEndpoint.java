@@ -0,0 +1,37 @@
+package com.sid.app.controller;
+
+import com.sid.app.model.RedisMemoryReport;
+import com.sid.app.service.RedisMemoryInspector;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint ({@code GET /actuator/redismemory}) reporting how much Redis memory the
+ * employee data uses, the field counts of the employee hashes, the average encoded value size per
+ * serializer, and the biggest and hottest keys.
+ *
+ * @author Siddhant Patni
+ */
+@Slf4j
+@Component
+@Endpoint(id = "redismemory")
+public class RedisMemoryEndpoint {
+
+  private final RedisMemoryInspector redisMemoryInspector;
+
+  @Autowired
+  public RedisMemoryEndpoint(RedisMemoryInspector redisMemoryInspector) {
+    this.redisMemoryInspector = redisMemoryInspector;
+  }
+
+  @ReadOperation
+  public RedisMemoryReport report() {
+    log.info("report() : START");
+    RedisMemoryReport report = redisMemoryInspector.inspect();
+    log.info("report() : END");
+    return report;
+  }
+}
@@ -0,0 +1,58 @@
+package com.sid.app.controller;
+
+import com.sid.app.utils.ResponseMetadata;
+import jakarta.servlet.http.HttpServletRequest;
+import java.time.Duration;
+import java.time.Instant;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Exposes {@link ResponseMetadata} as response headers: {@code X-Data-Staleness-Seconds} when the
+ * body was served from the local snapshot because Redis was unavailable, and {@code 202 Accepted}
+ * with {@code X-Write-Queued} when a write was queued for replay.
+ *
+ * @author Siddhant Patni
+ */
+@ControllerAdvice
+public class ResponseMetadataAdvice implements ResponseBodyAdvice<Object> {
+
+  public static final String STALENESS_HEADER = "X-Data-Staleness-Seconds";
+  public static final String WRITE_QUEUED_HEADER = "X-Write-Queued";
+
+  @Override
+  public boolean supports(
+      MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+    return true;
+  }
+
+  @Override
+  public Object beforeBodyWrite(
+      Object body,
+      MethodParameter returnType,
+      MediaType selectedContentType,
+      Class<? extends HttpMessageConverter<?>> selectedConverterType,
+      ServerHttpRequest request,
+      ServerHttpResponse response) {
+    if (request instanceof ServletServerHttpRequest servletRequest) {
+      HttpServletRequest httpRequest = servletRequest.getServletRequest();
+      if (httpRequest.getAttribute(ResponseMetadata.STALE_SINCE_ATTRIBUTE)
+          instanceof Instant capturedAt) {
+        long seconds = Math.max(0, Duration.between(capturedAt, Instant.now()).toSeconds());
+        response.getHeaders().set(STALENESS_HEADER, Long.toString(seconds));
+      }
+      if (Boolean.TRUE.equals(httpRequest.getAttribute(ResponseMetadata.WRITE_QUEUED_ATTRIBUTE))) {
+        response.getHeaders().set(WRITE_QUEUED_HEADER, "true");
+        response.setStatusCode(HttpStatus.ACCEPTED);
+      }
+    }
+    return body;
+  }
+}
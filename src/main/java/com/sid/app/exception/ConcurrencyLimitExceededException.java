@@ -0,0 +1,13 @@
+package com.sid.app.exception;
+
+/**
+ * @author Siddhant Patni
+ */
+public class ConcurrencyLimitExceededException extends RuntimeException {
+
+  private static final long serialVersionUID = 3311547021967389921L;
+
+  public ConcurrencyLimitExceededException(String budget, int limit) {
+    super("Too many concurrent " + budget + " requests (limit " + limit + "), retry shortly");
+  }
+}
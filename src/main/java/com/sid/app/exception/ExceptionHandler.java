@@ -1,7 +1,9 @@
 package com.sid.app.exception;
 
+import jakarta.servlet.http.HttpServletResponse;
 import java.util.HashMap;
 import java.util.Map;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ResponseBody;
@@ -11,7 +13,9 @@ import org.springframework.web.bind.annotation.ResponseStatus;
  * Global exception handler for the application. Handles exceptions thrown by controllers and
  * returns appropriate HTTP responses.
  *
- * <p>Currently handles UserNotFoundException and returns a NOT_FOUND status with an error message.
+ * <p>Handles UserNotFoundException with a NOT_FOUND status, InvalidFieldException and
+ * InvalidBatchException with a BAD_REQUEST status and RedisUnavailableException with a
+ * SERVICE_UNAVAILABLE status, all with an error message.
  *
  * @author Siddhant Patni
  */
@@ -33,4 +37,77 @@ public class ExceptionHandler {
     errorMap.put("errorMessage", exception.getMessage());
     return errorMap;
   }
+
+  /**
+   * Handles InvalidFieldException thrown when a projection requests an unknown field. Returns a map
+   * containing the error message and sets the HTTP status to BAD_REQUEST (400).
+   *
+   * @param exception the InvalidFieldException instance
+   * @return a map with the error message
+   */
+  @ResponseBody
+  @org.springframework.web.bind.annotation.ExceptionHandler(value = InvalidFieldException.class)
+  @ResponseStatus(HttpStatus.BAD_REQUEST)
+  public Map<String, String> invalidFieldHandler(InvalidFieldException exception) {
+    Map<String, String> errorMap = new HashMap<>();
+    errorMap.put("errorMessage", exception.getMessage());
+    return errorMap;
+  }
+
+  /**
+   * Handles InvalidBatchException thrown when a batch request is empty, too large or malformed.
+   * Returns a map containing the error message and sets the HTTP status to BAD_REQUEST (400).
+   *
+   * @param exception the InvalidBatchException instance
+   * @return a map with the error message
+   */
+  @ResponseBody
+  @org.springframework.web.bind.annotation.ExceptionHandler(value = InvalidBatchException.class)
+  @ResponseStatus(HttpStatus.BAD_REQUEST)
+  public Map<String, String> invalidBatchHandler(InvalidBatchException exception) {
+    Map<String, String> errorMap = new HashMap<>();
+    errorMap.put("errorMessage", exception.getMessage());
+    return errorMap;
+  }
+
+  /**
+   * Handles RedisUnavailableException thrown when Redis cannot serve a request and no fallback is
+   * available. Returns a map containing the error message, sets the HTTP status to
+   * SERVICE_UNAVAILABLE (503) and tells the client when to retry.
+   *
+   * @param exception the RedisUnavailableException instance
+   * @param response the HTTP response, used to set the Retry-After header
+   * @return a map with the error message
+   */
+  @ResponseBody
+  @org.springframework.web.bind.annotation.ExceptionHandler(value = RedisUnavailableException.class)
+  @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+  public Map<String, String> redisUnavailableHandler(
+      RedisUnavailableException exception, HttpServletResponse response) {
+    response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(exception.getRetryAfterSeconds()));
+    Map<String, String> errorMap = new HashMap<>();
+    errorMap.put("errorMessage", exception.getMessage());
+    return errorMap;
+  }
+
+  /**
+   * Handles ConcurrencyLimitExceededException thrown when a request is shed by the concurrency
+   * limiter. Returns a map containing the error message, sets the HTTP status to TOO_MANY_REQUESTS
+   * (429) and asks the client to retry after a second.
+   *
+   * @param exception the ConcurrencyLimitExceededException instance
+   * @param response the HTTP response, used to set the Retry-After header
+   * @return a map with the error message
+   */
+  @ResponseBody
+  @org.springframework.web.bind.annotation.ExceptionHandler(
+      value = ConcurrencyLimitExceededException.class)
+  @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+  public Map<String, String> concurrencyLimitHandler(
+      ConcurrencyLimitExceededException exception, HttpServletResponse response) {
+    response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+    Map<String, String> errorMap = new HashMap<>();
+    errorMap.put("errorMessage", exception.getMessage());
+    return errorMap;
+  }
 }
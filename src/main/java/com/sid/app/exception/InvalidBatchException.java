@@ -0,0 +1,13 @@
+package com.sid.app.exception;
+
+/**
+ * @author Siddhant Patni
+ */
+public class InvalidBatchException extends RuntimeException {
+
+  private static final long serialVersionUID = 6915480412318075934L;
+
+  public InvalidBatchException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,13 @@
+package com.sid.app.exception;
+
+/**
+ * @author Siddhant Patni
+ */
+public class InvalidFieldException extends RuntimeException {
+
+  private static final long serialVersionUID = -4021357795137204719L;
+
+  public InvalidFieldException(String field) {
+    super("Unknown or empty employee field '" + field + "'");
+  }
+}
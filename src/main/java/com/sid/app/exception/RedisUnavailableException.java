@@ -0,0 +1,20 @@
+package com.sid.app.exception;
+
+/**
+ * @author Siddhant Patni
+ */
+public class RedisUnavailableException extends RuntimeException {
+
+  private static final long serialVersionUID = 5127781630915408836L;
+
+  private final long retryAfterSeconds;
+
+  public RedisUnavailableException(String operation, long retryAfterSeconds, Throwable cause) {
+    super("Employee store is temporarily unavailable for " + operation, cause);
+    this.retryAfterSeconds = retryAfterSeconds;
+  }
+
+  public long getRetryAfterSeconds() {
+    return retryAfterSeconds;
+  }
+}
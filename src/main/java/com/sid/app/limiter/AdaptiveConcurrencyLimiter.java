@@ -0,0 +1,80 @@
+package com.sid.app.limiter;
+
+import com.sid.app.config.ConcurrencyLimitProperties.Budget;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Concurrency limiter whose limit follows the AIMD (additive increase, multiplicative decrease)
+ * algorithm.
+ *
+ * <p>A request is admitted only while fewer than {@code limit} requests are in flight. When a
+ * request completes quickly and successfully while the limiter is at least half utilized, the limit
+ * grows by one; when it is slow end-to-end, spent too long in Redis, or failed, the limit shrinks
+ * by the backoff ratio. The limit therefore settles just below the concurrency at which latency
+ * starts to degrade, and excess requests are shed instead of queueing.
+ *
+ * @author Siddhant Patni
+ */
+public class AdaptiveConcurrencyLimiter {
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final double backoffRatio;
+  private final long latencyThresholdNanos;
+  private final long redisLatencyThresholdNanos;
+
+  private final AtomicLong rejected = new AtomicLong();
+  private int limit;
+  private int inFlight;
+
+  public AdaptiveConcurrencyLimiter(Budget budget, double backoffRatio) {
+    this.minLimit = budget.getMinLimit();
+    this.maxLimit = budget.getMaxLimit();
+    this.backoffRatio = backoffRatio;
+    this.latencyThresholdNanos = budget.getLatencyThreshold().toNanos();
+    this.redisLatencyThresholdNanos = budget.getRedisLatencyThreshold().toNanos();
+    this.limit = Math.max(minLimit, Math.min(maxLimit, budget.getInitialLimit()));
+  }
+
+  /** Admits a request if the limit allows it; an admitted request must be released. */
+  public synchronized boolean tryAcquire() {
+    if (inFlight >= limit) {
+      rejected.incrementAndGet();
+      return false;
+    }
+    inFlight++;
+    return true;
+  }
+
+  /**
+   * Releases an admitted request and adjusts the limit from what was observed.
+   *
+   * @param latency end-to-end request latency
+   * @param redisLatency time the request spent in Redis calls
+   * @param failed whether the request failed on the server side
+   */
+  public synchronized void release(Duration latency, Duration redisLatency, boolean failed) {
+    int utilization = inFlight;
+    inFlight--;
+    if (failed
+        || latency.toNanos() > latencyThresholdNanos
+        || redisLatency.toNanos() > redisLatencyThresholdNanos) {
+      limit = Math.max(minLimit, (int) (limit * backoffRatio));
+    } else if (utilization * 2 >= limit) {
+      limit = Math.min(maxLimit, limit + 1);
+    }
+  }
+
+  public synchronized int getLimit() {
+    return limit;
+  }
+
+  public synchronized int getInFlight() {
+    return inFlight;
+  }
+
+  public long getRejected() {
+    return rejected.get();
+  }
+}
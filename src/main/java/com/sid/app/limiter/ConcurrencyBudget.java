@@ -0,0 +1,27 @@
+package com.sid.app.limiter;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Assigns a controller method to a concurrency budget. Methods without the annotation use the
+ * {@link Type#POINT} budget.
+ *
+ * @author Siddhant Patni
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConcurrencyBudget {
+
+  /** Budgets with independent concurrency limits. */
+  enum Type {
+    /** Cheap single-employee reads and writes. */
+    POINT,
+    /** Expensive list, scan and bulk operations. */
+    BULK
+  }
+
+  Type value();
+}
@@ -0,0 +1,68 @@
+package com.sid.app.limiter;
+
+import com.sid.app.config.ConcurrencyLimitProperties;
+import com.sid.app.exception.ConcurrencyLimitExceededException;
+import com.sid.app.utils.ResponseMetadata;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Admits controller requests through the limiter of their {@link ConcurrencyBudget} and sheds the
+ * rest with {@link ConcurrencyLimitExceededException}. On completion, the request latency, the time
+ * spent in Redis and whether the request failed are fed back to the limiter.
+ *
+ * @author Siddhant Patni
+ */
+@Component
+public class ConcurrencyLimitInterceptor implements HandlerInterceptor {
+
+  private static final String LIMITER_ATTRIBUTE =
+      ConcurrencyLimitInterceptor.class.getName() + ".limiter";
+  private static final String START_ATTRIBUTE =
+      ConcurrencyLimitInterceptor.class.getName() + ".start";
+
+  private final ConcurrencyLimiters limiters;
+  private final ConcurrencyLimitProperties properties;
+
+  @Autowired
+  public ConcurrencyLimitInterceptor(
+      ConcurrencyLimiters limiters, ConcurrencyLimitProperties properties) {
+    this.limiters = limiters;
+    this.properties = properties;
+  }
+
+  @Override
+  public boolean preHandle(
+      HttpServletRequest request, HttpServletResponse response, Object handler) {
+    if (!properties.isEnabled() || !(handler instanceof HandlerMethod handlerMethod)) {
+      return true;
+    }
+    ConcurrencyBudget budget = handlerMethod.getMethodAnnotation(ConcurrencyBudget.class);
+    ConcurrencyBudget.Type type = budget == null ? ConcurrencyBudget.Type.POINT : budget.value();
+    AdaptiveConcurrencyLimiter limiter = limiters.get(type);
+    if (!limiter.tryAcquire()) {
+      throw new ConcurrencyLimitExceededException(type.name().toLowerCase(), limiter.getLimit());
+    }
+    request.setAttribute(LIMITER_ATTRIBUTE, limiter);
+    request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+    return true;
+  }
+
+  @Override
+  public void afterCompletion(
+      HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+    if (request.getAttribute(LIMITER_ATTRIBUTE) instanceof AdaptiveConcurrencyLimiter limiter
+        && request.getAttribute(START_ATTRIBUTE) instanceof Long start) {
+      request.removeAttribute(LIMITER_ATTRIBUTE);
+      Duration latency = Duration.ofNanos(System.nanoTime() - start);
+      Duration redisLatency = ResponseMetadata.redisTime(request);
+      boolean failed = ex != null || response.getStatus() >= 500;
+      limiter.release(latency, redisLatency, failed);
+    }
+  }
+}
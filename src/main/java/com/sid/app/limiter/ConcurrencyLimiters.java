@@ -0,0 +1,57 @@
+package com.sid.app.limiter;
+
+import com.sid.app.config.ConcurrencyLimitProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.EnumMap;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds one {@link AdaptiveConcurrencyLimiter} per {@link ConcurrencyBudget.Type} and exports their
+ * limit, in-flight count and rejections as {@code employee.concurrency.*} metrics tagged with the
+ * budget.
+ *
+ * @author Siddhant Patni
+ */
+@Component
+public class ConcurrencyLimiters {
+
+  private final Map<ConcurrencyBudget.Type, AdaptiveConcurrencyLimiter> limiters =
+      new EnumMap<>(ConcurrencyBudget.Type.class);
+
+  @Autowired
+  public ConcurrencyLimiters(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+    limiters.put(
+        ConcurrencyBudget.Type.POINT,
+        new AdaptiveConcurrencyLimiter(properties.getPoint(), properties.getBackoffRatio()));
+    limiters.put(
+        ConcurrencyBudget.Type.BULK,
+        new AdaptiveConcurrencyLimiter(properties.getBulk(), properties.getBackoffRatio()));
+
+    limiters.forEach(
+        (type, limiter) -> {
+          String budget = type.name().toLowerCase();
+          Gauge.builder("employee.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+              .description("Current adaptive concurrency limit")
+              .tag("budget", budget)
+              .register(meterRegistry);
+          Gauge.builder(
+                  "employee.concurrency.inflight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+              .description("Requests currently admitted")
+              .tag("budget", budget)
+              .register(meterRegistry);
+          FunctionCounter.builder(
+                  "employee.concurrency.rejected", limiter, AdaptiveConcurrencyLimiter::getRejected)
+              .description("Requests shed because the concurrency limit was reached")
+              .tag("budget", budget)
+              .register(meterRegistry);
+        });
+  }
+
+  public AdaptiveConcurrencyLimiter get(ConcurrencyBudget.Type type) {
+    return limiters.get(type);
+  }
+}
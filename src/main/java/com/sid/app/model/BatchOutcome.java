@@ -0,0 +1,26 @@
+package com.sid.app.model;
+
+/**
+ * Per-item outcome of a batch upsert or delete.
+ *
+ * @author Siddhant Patni
+ */
+public enum BatchOutcome {
+  /** The employee did not exist and was written. */
+  INSERTED,
+  /** The employee existed with the expected version and was replaced. */
+  UPDATED,
+  /** The employee existed and was removed. */
+  DELETED,
+  /** Nothing was written because the employee does not exist. */
+  NOT_FOUND,
+  /** Nothing was written because an insert-if-absent found an existing employee. */
+  ALREADY_EXISTS,
+  /** Nothing was written because the stored version differs from the expected one. */
+  VERSION_CONFLICT;
+
+  /** Reports whether the item changed the stored employee. */
+  public boolean isApplied() {
+    return this == INSERTED || this == UPDATED || this == DELETED;
+  }
+}
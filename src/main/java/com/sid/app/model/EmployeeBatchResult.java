@@ -0,0 +1,29 @@
+package com.sid.app.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of one item of a batch upsert or delete.
+ *
+ * <p>Fields: - id: Identifier of the employee. - outcome: What happened to the item. - version:
+ * Version of the employee after the batch; 0 if it has never been written since versions were
+ * introduced.
+ *
+ * @author Siddhant Patni
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeBatchResult {
+
+  /** Identifier of the employee. */
+  private String id;
+
+  /** What happened to the item. */
+  private BatchOutcome outcome;
+
+  /** Version of the employee after the batch. */
+  private long version;
+}
@@ -0,0 +1,146 @@
+package com.sid.app.model;
+
+import com.sid.app.exception.InvalidFieldException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Fields of an {@link Employee} that can be stored as individual Redis hash fields and requested
+ * through {@code ?fields=} projections.
+ *
+ * <p>Each constant knows how to encode its value into the string stored in Redis and how to decode
+ * it back, so the field-per-hash layout never needs to deserialize a whole record.
+ *
+ * @author Siddhant Patni
+ */
+public enum EmployeeField {
+  ID("id", Employee::getId, Employee::setId, value -> value),
+  NAME("name", Employee::getName, Employee::setName, value -> value),
+  DEPARTMENT("department", Employee::getDepartment, Employee::setDepartment, value -> value),
+  SALARY(
+      "salary",
+      Employee::getSalary,
+      (employee, value) -> employee.setSalary(Double.parseDouble(value)),
+      Double::valueOf);
+
+  private final String fieldName;
+  private final Function<Employee, Object> reader;
+  private final BiConsumer<Employee, String> writer;
+  private final Function<String, Object> parser;
+
+  EmployeeField(
+      String fieldName,
+      Function<Employee, Object> reader,
+      BiConsumer<Employee, String> writer,
+      Function<String, Object> parser) {
+    this.fieldName = fieldName;
+    this.reader = reader;
+    this.writer = writer;
+    this.parser = parser;
+  }
+
+  /** Name of the field as exposed in JSON and stored in the Redis hash. */
+  public String fieldName() {
+    return fieldName;
+  }
+
+  /** Reads the typed value of this field from an employee. */
+  public Object read(Employee employee) {
+    return reader.apply(employee);
+  }
+
+  /** Encodes the value of this field as a Redis hash value, or null if the value is absent. */
+  public String encode(Employee employee) {
+    Object value = read(employee);
+    return value == null ? null : value.toString();
+  }
+
+  /** Decodes a Redis hash value into its typed JSON representation. */
+  public Object parse(String value) {
+    return value == null ? null : parser.apply(value);
+  }
+
+  /**
+   * Resolves a field by its JSON name.
+   *
+   * @throws InvalidFieldException if no such field exists
+   */
+  public static EmployeeField of(String fieldName) {
+    for (EmployeeField field : values()) {
+      if (field.fieldName.equals(fieldName)) {
+        return field;
+      }
+    }
+    throw new InvalidFieldException(fieldName);
+  }
+
+  /** Resolves a list of requested field names, ignoring blanks and duplicates. */
+  public static List<EmployeeField> of(List<String> fieldNames) {
+    List<EmployeeField> fields = new ArrayList<>();
+    for (String fieldName : fieldNames) {
+      if (fieldName == null || fieldName.isBlank()) {
+        continue;
+      }
+      EmployeeField field = of(fieldName.trim());
+      if (!fields.contains(field)) {
+        fields.add(field);
+      }
+    }
+    if (fields.isEmpty()) {
+      throw new InvalidFieldException("");
+    }
+    return fields;
+  }
+
+  /** Converts an employee into the Redis hash representation, skipping absent values. */
+  public static Map<String, String> toHash(Employee employee) {
+    Map<String, String> hash = new LinkedHashMap<>();
+    for (EmployeeField field : values()) {
+      String value = field.encode(employee);
+      if (value != null) {
+        hash.put(field.fieldName, value);
+      }
+    }
+    return hash;
+  }
+
+  /** Rebuilds an employee from its Redis hash representation. */
+  public static Employee fromHash(Map<String, String> hash) {
+    Employee employee = new Employee();
+    for (EmployeeField field : values()) {
+      String value = hash.get(field.fieldName);
+      if (value != null) {
+        field.writer.accept(employee, value);
+      }
+    }
+    return employee;
+  }
+
+  /** Projects the requested fields of an employee, preserving the requested order. */
+  public static Map<String, Object> project(Employee employee, List<EmployeeField> fields) {
+    Map<String, Object> projection = new LinkedHashMap<>();
+    for (EmployeeField field : fields) {
+      projection.put(field.fieldName, field.read(employee));
+    }
+    return projection;
+  }
+
+  /** Builds a projection from the values returned by HMGET for the given fields. */
+  public static Map<String, Object> project(List<EmployeeField> fields, List<String> values) {
+    Map<String, Object> projection = new LinkedHashMap<>();
+    for (int i = 0; i < fields.size(); i++) {
+      EmployeeField field = fields.get(i);
+      projection.put(field.fieldName, field.parse(values.get(i)));
+    }
+    return projection;
+  }
+
+  /** Returns the field names of the given fields in order, as used for HMGET. */
+  public static List<String> names(List<EmployeeField> fields) {
+    return fields.stream().map(EmployeeField::fieldName).toList();
+  }
+}
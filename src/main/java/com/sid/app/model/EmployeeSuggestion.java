@@ -0,0 +1,25 @@
+package com.sid.app.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * An autocomplete match for an employee name prefix.
+ *
+ * <p>Fields: - id: Unique identifier of the matching employee. - name: Name of the employee as it
+ * was saved.
+ *
+ * @author Siddhant Patni
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeSuggestion {
+
+  /** Unique identifier of the matching employee. */
+  private String id;
+
+  /** Name of the employee as it was saved. */
+  private String name;
+}
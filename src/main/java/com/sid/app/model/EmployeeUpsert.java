@@ -0,0 +1,26 @@
+package com.sid.app.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One conditional write of a batch upsert.
+ *
+ * <p>Fields: - employee: Employee to write; its ID selects the stored record. - expectedVersion:
+ * Version the stored employee must have for the write to apply, or null to insert the employee only
+ * if it does not exist yet.
+ *
+ * @author Siddhant Patni
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeUpsert {
+
+  /** Employee to write; its ID selects the stored record. */
+  private Employee employee;
+
+  /** Version the stored employee must have, or null to insert only if absent. */
+  private Long expectedVersion;
+}
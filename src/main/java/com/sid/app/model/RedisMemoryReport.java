@@ -0,0 +1,130 @@
+package com.sid.app.model;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Memory and key statistics of the service's Redis data, returned by the {@code redismemory}
+ * actuator endpoint. Byte figures come from {@code MEMORY USAGE} and are {@code null} when the
+ * server does not allow that command.
+ *
+ * @author Siddhant Patni
+ */
+@Data
+public class RedisMemoryReport {
+
+  /** When the report was generated. */
+  private Instant generatedAt;
+
+  /** SCAN pattern used to find the service's keys. */
+  private String keyPattern;
+
+  /** Number of keys visited by SCAN. */
+  private long keysScanned;
+
+  /** False when scanning stopped at the configured maximum before visiting every key. */
+  private boolean complete;
+
+  /** Whether MEMORY USAGE could be used. */
+  private boolean memoryUsageSupported;
+
+  /** How hot keys are ranked: {@code lfu-frequency}, {@code idle-time} or {@code unavailable}. */
+  private String hotKeySource;
+
+  /** Totals per kind of key (blob hash, employee hashes, ID index, name index, versions, other). */
+  private Map<String, KeyGroup> groups = new LinkedHashMap<>();
+
+  /** Field counts of the employee hash or hashes. */
+  private EmployeeHashes employeeHashes = new EmployeeHashes();
+
+  /** Average encoded size of one employee per serializer, in bytes. */
+  private Map<String, Double> averageEncodedValueBytes = new LinkedHashMap<>();
+
+  /** Number of employees the encoded value sizes were averaged over. */
+  private int valuesSampled;
+
+  /** Largest keys by memory (or by element count when MEMORY USAGE is unavailable). */
+  private List<KeySample> largestKeys = new ArrayList<>();
+
+  /** Most frequently (LFU) or most recently (LRU) used keys. */
+  private List<KeySample> hotKeys = new ArrayList<>();
+
+  /** Totals of one kind of key. */
+  @Data
+  @NoArgsConstructor
+  public static class KeyGroup {
+
+    /** Number of keys. */
+    private long keys;
+
+    /**
+     * Sum of hash fields, set or sorted set members, list entries or string bytes; {@code null}
+     * unless every key of the group was a big key candidate and got counted.
+     */
+    private Long elements;
+
+    /** Sum of MEMORY USAGE of the keys. */
+    private Long memoryBytes;
+
+    /** Average MEMORY USAGE per key. */
+    private Long averageMemoryBytes;
+  }
+
+  /** Field counts of the blob hash and of the field-per-hash layout. */
+  @Data
+  @NoArgsConstructor
+  public static class EmployeeHashes {
+
+    /** Fields (employees) in the {@code Employee} blob hash. */
+    private long blobHashFields;
+
+    /** Number of {@code Employee:<id>} hashes, from the ID index. */
+    private long fieldHashes;
+
+    /**
+     * Average number of fields per scanned {@code Employee:<id>} hash, from the element counts or,
+     * when not every hash was counted, from the sampled employees.
+     */
+    private Double averageFieldsPerHash;
+
+    /** Average MEMORY USAGE of a scanned hash multiplied by the number of hashes. */
+    private Long estimatedFieldHashMemoryBytes;
+  }
+
+  /** One inspected key. */
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class KeySample {
+
+    /** Redis key. */
+    private String key;
+
+    /** Redis type, e.g. {@code hash}. */
+    private String type;
+
+    /**
+     * Hash fields, set or sorted set members, list entries or string bytes; {@code null} when the
+     * key was not a big key candidate, since counting touches the key.
+     */
+    private Long elements;
+
+    /** MEMORY USAGE of the key. */
+    private Long memoryBytes;
+
+    /** LFU access frequency counter (OBJECT FREQ). */
+    private Long frequency;
+
+    /** Seconds since the key was last accessed (OBJECT IDLETIME). */
+    private Long idleSeconds;
+
+    /** Whether the key exceeds the big key memory or element threshold. */
+    private boolean big;
+  }
+}
@@ -0,0 +1,205 @@
+package com.sid.app.repository;
+
+import com.sid.app.constants.AppConstants;
+import com.sid.app.model.Employee;
+import com.sid.app.model.EmployeeField;
+import com.sid.app.model.EmployeeUpsert;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Stores every employee as one serialized value in the single {@code Employee} hash.
+ *
+ * <p>This is the original layout: a read always transfers and decodes the whole record, even when
+ * only a single field is needed. Hash fields and values are written with the template's hash
+ * serializers, so the batch scripts receive them already encoded; versions live in the plain {@code
+ * EmployeeVersions} hash keyed by ID.
+ *
+ * @author Siddhant Patni
+ */
+@Component
+public class BlobEmployeeStore implements EmployeeStore {
+
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> UPSERT = EmployeeScripts.load("employee-blob-upsert");
+
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> DELETE = EmployeeScripts.load("employee-blob-delete");
+
+  private static final List<String> KEYS =
+      List.of(AppConstants.EMPLOYEE_HASH_KEY, AppConstants.EMPLOYEE_VERSION_KEY);
+
+  private final RedisTemplate<String, Object> redisTemplate;
+
+  @Autowired
+  public BlobEmployeeStore(RedisTemplate<String, Object> redisTemplate) {
+    this.redisTemplate = redisTemplate;
+  }
+
+  @Override
+  public List<StoredEmployee> read(List<String> ids) {
+    byte[] versionKey = EmployeeScripts.bytes(AppConstants.EMPLOYEE_VERSION_KEY);
+    byte[][] versionFields = ids.stream().map(EmployeeScripts::bytes).toArray(byte[][]::new);
+    List<byte[]> versions =
+        redisTemplate.execute(
+            (RedisCallback<List<byte[]>>)
+                connection -> connection.hashCommands().hMGet(versionKey, versionFields));
+    List<Object> employees =
+        redisTemplate
+            .opsForHash()
+            .multiGet(AppConstants.EMPLOYEE_HASH_KEY, new ArrayList<Object>(ids));
+    List<StoredEmployee> stored = new ArrayList<>(ids.size());
+    for (int i = 0; i < ids.size(); i++) {
+      byte[] version = versions == null ? null : versions.get(i);
+      stored.add(
+          new StoredEmployee(
+              ids.get(i),
+              (Employee) employees.get(i),
+              EmployeeScripts.parseVersion(
+                  version == null ? null : new String(version, StandardCharsets.UTF_8))));
+    }
+    return stored;
+  }
+
+  @Override
+  public Employee findById(String id) {
+    return (Employee) redisTemplate.opsForHash().get(AppConstants.EMPLOYEE_HASH_KEY, id);
+  }
+
+  @Override
+  public Map<String, Object> findFieldsById(String id, List<EmployeeField> fields) {
+    Employee employee = findById(id);
+    return employee == null ? null : EmployeeField.project(employee, fields);
+  }
+
+  @Override
+  public List<Employee> findAll() {
+    return redisTemplate.opsForHash().values(AppConstants.EMPLOYEE_HASH_KEY).stream()
+        .map(obj -> (Employee) obj)
+        .toList();
+  }
+
+  @Override
+  public List<Map<String, Object>> findAllFields(List<EmployeeField> fields) {
+    return findAll().stream().map(employee -> EmployeeField.project(employee, fields)).toList();
+  }
+
+  @Override
+  public List<EmployeeWriteResult> upsertBatch(
+      List<EmployeeUpsert> upserts, List<StoredEmployee> stored) {
+    List<String> keys = new ArrayList<>(KEYS);
+    List<byte[]> args = new ArrayList<>();
+    List<String> ids = new ArrayList<>(upserts.size());
+    List<Employee> written = new ArrayList<>(upserts.size());
+    for (int i = 0; i < upserts.size(); i++) {
+      EmployeeUpsert upsert = upserts.get(i);
+      Employee employee = upsert.getEmployee();
+      ids.add(employee.getId());
+      written.add(employee);
+      args.add(EmployeeScripts.bytes(employee.getId()));
+      args.add(field(employee.getId()));
+      args.add(EmployeeScripts.bytes(EmployeeScripts.expected(upsert)));
+      args.add(value(employee));
+      EmployeeScripts.addRead(stored.get(i), employee, keys, args, EmployeeScripts::bytes);
+    }
+    return EmployeeScripts.results(run(UPSERT, keys, args), ids, written);
+  }
+
+  @Override
+  public List<EmployeeWriteResult> deleteBatch(List<StoredEmployee> stored) {
+    return delete(null, stored);
+  }
+
+  @Override
+  public List<EmployeeWriteResult> deleteFromDepartment(
+      String department, List<StoredEmployee> stored) {
+    return delete(EmployeeNameIndex.departmentKey(department), stored);
+  }
+
+  /**
+   * Walks the blob hash incrementally with HSCAN, handing employees to the consumer in batches so
+   * that large hashes never block Redis with a single HGETALL.
+   */
+  public void scan(int batchSize, Consumer<List<Employee>> consumer) {
+    ScanOptions options = ScanOptions.scanOptions().count(batchSize).build();
+    List<Employee> batch = new ArrayList<>(batchSize);
+    try (Cursor<Map.Entry<Object, Object>> cursor =
+        redisTemplate.opsForHash().scan(AppConstants.EMPLOYEE_HASH_KEY, options)) {
+      while (cursor.hasNext()) {
+        batch.add((Employee) cursor.next().getValue());
+        if (batch.size() >= batchSize) {
+          consumer.accept(batch);
+          batch = new ArrayList<>(batchSize);
+        }
+      }
+    }
+    if (!batch.isEmpty()) {
+      consumer.accept(batch);
+    }
+  }
+
+  /** Reads up to {@code limit} employees with HSCAN, e.g. for size sampling. */
+  public List<Employee> sample(int limit) {
+    List<Employee> sample = new ArrayList<>(limit);
+    ScanOptions options = ScanOptions.scanOptions().count(limit).build();
+    try (Cursor<Map.Entry<Object, Object>> cursor =
+        redisTemplate.opsForHash().scan(AppConstants.EMPLOYEE_HASH_KEY, options)) {
+      while (sample.size() < limit && cursor.hasNext()) {
+        sample.add((Employee) cursor.next().getValue());
+      }
+    }
+    return sample;
+  }
+
+  /** Removes the given employees from the blob hash in a single HDEL. */
+  public long deleteAll(List<String> ids) {
+    if (ids.isEmpty()) {
+      return 0;
+    }
+    Long removed = redisTemplate.opsForHash().delete(AppConstants.EMPLOYEE_HASH_KEY, ids.toArray());
+    return removed == null ? 0 : removed;
+  }
+
+  /** Runs the delete script, scoped to the given department ID set unless that is null. */
+  private List<EmployeeWriteResult> delete(String departmentKey, List<StoredEmployee> stored) {
+    List<String> keys = new ArrayList<>(KEYS);
+    List<byte[]> args = new ArrayList<>();
+    args.add(EmployeeScripts.bytes(departmentKey == null ? "0" : "1"));
+    if (departmentKey != null) {
+      keys.add(departmentKey);
+    }
+    for (StoredEmployee employee : stored) {
+      args.add(EmployeeScripts.bytes(employee.id()));
+      args.add(field(employee.id()));
+      EmployeeScripts.addRead(employee, null, keys, args, EmployeeScripts::bytes);
+    }
+    return EmployeeScripts.results(
+        run(DELETE, keys, args), stored.stream().map(StoredEmployee::id).toList(), null);
+  }
+
+  @SuppressWarnings("rawtypes")
+  private List<Object> run(RedisScript<List> script, List<String> keys, List<byte[]> args) {
+    return EmployeeScripts.execute(redisTemplate, script, RedisSerializer.byteArray(), keys, args);
+  }
+
+  @SuppressWarnings("unchecked")
+  private byte[] field(String id) {
+    return ((RedisSerializer<Object>) redisTemplate.getHashKeySerializer()).serialize(id);
+  }
+
+  @SuppressWarnings("unchecked")
+  private byte[] value(Employee employee) {
+    return ((RedisSerializer<Object>) redisTemplate.getHashValueSerializer()).serialize(employee);
+  }
+}
@@ -0,0 +1,306 @@
+package com.sid.app.repository;
+
+import com.sid.app.constants.AppConstants;
+import com.sid.app.model.Employee;
+import com.sid.app.model.EmployeeSuggestion;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Lexicographic sorted-set index of employee names used for prefix autocomplete.
+ *
+ * <p>Every member is scored 0 so Redis orders the set by bytes, and a prefix lookup is a single
+ * ZRANGEBYLEX with a LIMIT, which costs O(log N + limit) regardless of how many employees exist.
+ * Members have the form {@code <normalized name>\0<id>\0<name>}: the normalized (accent-stripped,
+ * case-folded, whitespace-collapsed) name drives matching, while the ID and original name let a
+ * suggestion be returned without another round trip. One global set is kept, plus one set per
+ * normalized department for scoped lookups.
+ *
+ * <p>Alongside, one plain set of IDs per normalized department ({@code EmployeeDepartment:<dept>})
+ * lists every employee of the department, including those without an indexable name, for
+ * department-wide operations.
+ *
+ * @author Siddhant Patni
+ */
+@Component
+public class EmployeeNameIndex {
+
+  private static final char SEPARATOR = '\u0000';
+  private static final long SCAN_COUNT = 500;
+  private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+  private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+  private static final int REBUILD_ATTEMPTS = 5;
+  private static final Duration REBUILD_KEY_TTL = Duration.ofMinutes(10);
+
+  /** Every employee write touches one of these keys, so watching them detects any write. */
+  private static final List<String> REBUILD_WATCHED_KEYS =
+      List.of(
+          AppConstants.EMPLOYEE_HASH_KEY,
+          AppConstants.EMPLOYEE_ID_INDEX_KEY,
+          AppConstants.EMPLOYEE_VERSION_KEY);
+
+  private final StringRedisTemplate stringRedisTemplate;
+
+  @Autowired
+  public EmployeeNameIndex(StringRedisTemplate stringRedisTemplate) {
+    this.stringRedisTemplate = stringRedisTemplate;
+  }
+
+  /** Normalizes a name or department for matching: strips accents, case-folds and trims. */
+  public static String normalize(String value) {
+    if (value == null) {
+      return "";
+    }
+    String decomposed = Normalizer.normalize(value, Normalizer.Form.NFKD);
+    String stripped = COMBINING_MARKS.matcher(decomposed).replaceAll("");
+    return WHITESPACE.matcher(stripped).replaceAll(" ").trim().toLowerCase(Locale.ROOT);
+  }
+
+  /** Returns the index key for the given department, or the global index key when it is null. */
+  static String key(String department) {
+    return department == null
+        ? AppConstants.EMPLOYEE_NAME_INDEX_KEY
+        : AppConstants.EMPLOYEE_NAME_INDEX_KEY + ":" + normalize(department);
+  }
+
+  /** Returns the key of the set listing the IDs of the given department's employees. */
+  static String departmentKey(String department) {
+    return AppConstants.EMPLOYEE_DEPARTMENT_KEY + ":" + normalize(department);
+  }
+
+  /** Returns the index member for the given employee, or null if it has no indexable name. */
+  static String member(Employee employee) {
+    if (employee == null || employee.getName() == null || normalize(employee.getName()).isEmpty()) {
+      return null;
+    }
+    return normalize(employee.getName())
+        + SEPARATOR
+        + employee.getId()
+        + SEPARATOR
+        + employee.getName();
+  }
+
+  /** One write of an index move: a Redis command applied to a key with a member. */
+  record IndexWrite(String command, String key, String member) {}
+
+  /**
+   * Returns the index writes that move an employee from its previous to its current state, either
+   * of which may be null: a ZREM or SREM for every entry it no longer has, then a ZADD or SADD for
+   * every new one. Batch scripts apply them together with the record write.
+   */
+  static List<IndexWrite> moves(Employee previous, Employee current) {
+    List<IndexWrite> before = entries(previous);
+    List<IndexWrite> after = entries(current);
+    List<IndexWrite> moves = new ArrayList<>();
+    for (IndexWrite entry : before) {
+      if (!after.contains(entry)) {
+        String command = entry.command().equals("ZADD") ? "ZREM" : "SREM";
+        moves.add(new IndexWrite(command, entry.key(), entry.member()));
+      }
+    }
+    for (IndexWrite entry : after) {
+      if (!before.contains(entry)) {
+        moves.add(entry);
+      }
+    }
+    return moves;
+  }
+
+  /**
+   * Rebuilds the name index and the department ID sets from the employees the supplier reads, and
+   * returns how many were indexed.
+   *
+   * <p>The sets are filled under temporary keys while the employee records are WATCHed, then
+   * renamed over the live keys in one MULTI/EXEC that also drops live keys no employee uses any
+   * more, so readers see either the old or the new index and never an empty one. If an employee is
+   * written in between, the swap is aborted and the rebuild starts over from a fresh read, so
+   * concurrent writes are never lost; rebuilds running on several instances at once only repeat
+   * each other's work.
+   *
+   * @throws OptimisticLockingFailureException if writes kept aborting the swap
+   */
+  public int rebuild(Supplier<? extends Collection<Employee>> employees) {
+    for (int attempt = 0; attempt < REBUILD_ATTEMPTS; attempt++) {
+      List<String> live = scan(AppConstants.EMPLOYEE_NAME_INDEX_KEY + ":*");
+      live.addAll(scan(AppConstants.EMPLOYEE_DEPARTMENT_KEY + ":*"));
+      live.add(AppConstants.EMPLOYEE_NAME_INDEX_KEY);
+      Integer indexed =
+          stringRedisTemplate.execute(
+              new SessionCallback<Integer>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Integer execute(RedisOperations<K, V> operations)
+                    throws DataAccessException {
+                  return rebuild((RedisOperations<String, String>) operations, employees, live);
+                }
+              });
+      if (indexed != null) {
+        return indexed;
+      }
+    }
+    throw new OptimisticLockingFailureException(
+        "Employee name index rebuild was aborted by concurrent writes "
+            + REBUILD_ATTEMPTS
+            + " times");
+  }
+
+  /**
+   * Runs one rebuild attempt on a bound connection, returning null if the swap was aborted. The
+   * live keys are scanned beforehand, since a SCAN cursor would release the bound connection; any
+   * key created after the scan belongs to an employee that is read, or was written, after it.
+   */
+  private Integer rebuild(
+      RedisOperations<String, String> operations,
+      Supplier<? extends Collection<Employee>> employees,
+      List<String> live) {
+    operations.watch(REBUILD_WATCHED_KEYS);
+    Collection<Employee> current = employees.get();
+    String prefix = AppConstants.EMPLOYEE_NAME_INDEX_REBUILD_KEY + ":" + UUID.randomUUID() + ":";
+    Set<String> keys = new LinkedHashSet<>();
+    StringRedisSessions.inPipeline(
+        stringRedisTemplate,
+        pipeline -> {
+          for (Employee employee : current) {
+            for (IndexWrite entry : entries(employee)) {
+              write(
+                  pipeline, new IndexWrite(entry.command(), prefix + entry.key(), entry.member()));
+              keys.add(entry.key());
+            }
+          }
+          keys.forEach(key -> pipeline.expire(prefix + key, REBUILD_KEY_TTL));
+        });
+    List<String> stale = new ArrayList<>(live);
+    stale.removeAll(keys);
+
+    operations.multi();
+    if (!stale.isEmpty()) {
+      operations.delete(stale);
+    }
+    for (String key : keys) {
+      operations.rename(prefix + key, key);
+      operations.persist(key);
+    }
+    List<Object> swapped = operations.exec();
+    if (swapped == null || swapped.isEmpty() && !(stale.isEmpty() && keys.isEmpty())) {
+      if (!keys.isEmpty()) {
+        operations.delete(keys.stream().map(key -> prefix + key).toList());
+      }
+      return null;
+    }
+    return current.size();
+  }
+
+  /**
+   * Returns up to {@code limit} employees whose normalized name starts with the normalized prefix,
+   * in lexicographic order, optionally scoped to a department.
+   */
+  public List<EmployeeSuggestion> search(String prefix, String department, int limit) {
+    String normalizedPrefix = normalize(prefix);
+    Set<String> members =
+        stringRedisTemplate
+            .opsForZSet()
+            .rangeByLex(key(department), prefixRange(normalizedPrefix), Limit.limit().count(limit));
+    if (members == null) {
+      return List.of();
+    }
+    return members.stream().map(EmployeeNameIndex::toSuggestion).toList();
+  }
+
+  /**
+   * Returns up to {@code limit} IDs of employees of the given department, picked with SRANDMEMBER.
+   */
+  public List<String> departmentMembers(String department, int limit) {
+    Set<String> ids =
+        stringRedisTemplate.opsForSet().distinctRandomMembers(departmentKey(department), limit);
+    return ids == null ? List.of() : new ArrayList<>(ids);
+  }
+
+  private List<String> scan(String pattern) {
+    ScanOptions options = ScanOptions.scanOptions().match(pattern).count(SCAN_COUNT).build();
+    List<String> keys = new ArrayList<>();
+    try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+      cursor.forEachRemaining(keys::add);
+    }
+    return keys;
+  }
+
+  static Range<String> prefixRange(String normalizedPrefix) {
+    if (normalizedPrefix.isEmpty()) {
+      return Range.unbounded();
+    }
+    String upper = successor(normalizedPrefix);
+    return upper == null
+        ? Range.rightUnbounded(Range.Bound.inclusive(normalizedPrefix))
+        : Range.rightOpen(normalizedPrefix, upper);
+  }
+
+  /** Returns the smallest string greater than every string starting with the prefix, if any. */
+  private static String successor(String prefix) {
+    StringBuilder upper = new StringBuilder(prefix);
+    while (!upper.isEmpty()) {
+      int last = upper.length() - 1;
+      char c = upper.charAt(last);
+      if (c != Character.MAX_VALUE) {
+        upper.setCharAt(last, (char) (c + 1));
+        return upper.toString();
+      }
+      upper.setLength(last);
+    }
+    return null;
+  }
+
+  private static EmployeeSuggestion toSuggestion(String member) {
+    int idStart = member.indexOf(SEPARATOR) + 1;
+    int nameStart = member.indexOf(SEPARATOR, idStart) + 1;
+    return new EmployeeSuggestion(
+        member.substring(idStart, nameStart - 1), member.substring(nameStart));
+  }
+
+  /**
+   * Returns the writes that index the given employee: a ZADD per name index if it has an indexable
+   * name, and an SADD to its department's ID set if it has a department.
+   */
+  private static List<IndexWrite> entries(Employee employee) {
+    List<IndexWrite> entries = new ArrayList<>(3);
+    String member = member(employee);
+    if (member != null) {
+      entries.add(new IndexWrite("ZADD", key(null), member));
+      if (employee.getDepartment() != null) {
+        entries.add(new IndexWrite("ZADD", key(employee.getDepartment()), member));
+      }
+    }
+    if (employee != null && !normalize(employee.getDepartment()).isEmpty()) {
+      entries.add(
+          new IndexWrite("SADD", departmentKey(employee.getDepartment()), employee.getId()));
+    }
+    return entries;
+  }
+
+  private static void write(RedisOperations<String, String> operations, IndexWrite entry) {
+    if (entry.command().equals("ZADD")) {
+      operations.opsForZSet().add(entry.key(), entry.member(), 0);
+    } else {
+      operations.opsForSet().add(entry.key(), entry.member());
+    }
+  }
+}
@@ -0,0 +1,132 @@
+package com.sid.app.repository;
+
+import com.sid.app.model.BatchOutcome;
+import com.sid.app.model.Employee;
+import com.sid.app.model.EmployeeUpsert;
+import com.sid.app.repository.EmployeeNameIndex.IndexWrite;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * Helpers for the batch Lua scripts under {@code scripts/}.
+ *
+ * <p>Scripts are sent by SHA1 with EVALSHA and only uploaded with EVAL when Redis does not have
+ * them cached yet. Every script returns a flat list with the outcome and the version of each item,
+ * or an empty list when an employee changed since the caller read it. Items carry the state they
+ * were read in and the name index writes that move them from it, so a script only moves index
+ * entries of employees it finds unchanged.
+ *
+ * @author Siddhant Patni
+ */
+final class EmployeeScripts {
+
+  private EmployeeScripts() {}
+
+  /** Loads {@code scripts/<name>.lua} from the classpath. */
+  @SuppressWarnings("rawtypes")
+  static RedisScript<List> load(String name) {
+    return RedisScript.of(new ClassPathResource("scripts/" + name + ".lua"), List.class);
+  }
+
+  /**
+   * Runs the script with EVALSHA, serializing arguments and deserializing the reply with the given
+   * serializer.
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  static List<Object> execute(
+      RedisTemplate<String, ?> template,
+      RedisScript<List> script,
+      RedisSerializer<?> serializer,
+      List<String> keys,
+      List<?> args) {
+    List<Object> reply =
+        template.execute(script, serializer, (RedisSerializer) serializer, keys, args.toArray());
+    return reply == null ? List.of() : reply;
+  }
+
+  /** Encodes the expected version of an upsert, empty meaning insert only if absent. */
+  static String expected(EmployeeUpsert upsert) {
+    return upsert.getExpectedVersion() == null ? "" : upsert.getExpectedVersion().toString();
+  }
+
+  /** Reads the outcome of item {@code index} from a reply with {@code stride} entries per item. */
+  static BatchOutcome outcome(List<Object> reply, int index, int stride) {
+    Object outcome = reply.get(index * stride);
+    return BatchOutcome.valueOf(
+        outcome instanceof byte[] bytes
+            ? new String(bytes, StandardCharsets.UTF_8)
+            : outcome.toString());
+  }
+
+  /** Reads the version of item {@code index} from a reply with {@code stride} entries per item. */
+  static long version(List<Object> reply, int index, int stride) {
+    return ((Number) reply.get(index * stride + 1)).longValue();
+  }
+
+  /**
+   * Reads one result per item from a reply, carrying the employees written by applied items, or
+   * null {@code written} for deletes. Returns an empty list when the script found an employee
+   * changed since it was read.
+   */
+  static List<EmployeeWriteResult> results(
+      List<Object> reply, List<String> ids, List<Employee> written) {
+    if (reply.isEmpty()) {
+      return List.of();
+    }
+    List<EmployeeWriteResult> results = new ArrayList<>(ids.size());
+    for (int i = 0; i < ids.size(); i++) {
+      BatchOutcome outcome = outcome(reply, i, 2);
+      results.add(
+          new EmployeeWriteResult(
+              ids.get(i),
+              outcome,
+              version(reply, i, 2),
+              written != null && outcome.isApplied() ? written.get(i) : null));
+    }
+    return results;
+  }
+
+  /**
+   * Appends the read state of an item and the name index writes moving it to {@code current}: the
+   * read version, '1' if the employee was read as existing, the number of index writes and a
+   * command and member per write to {@code args}, and the key of every write to {@code keys}.
+   */
+  static <T> void addRead(
+      StoredEmployee stored,
+      Employee current,
+      List<String> keys,
+      List<T> args,
+      Function<String, T> encode) {
+    List<IndexWrite> writes = EmployeeNameIndex.moves(stored.employee(), current);
+    args.add(encode.apply(Long.toString(stored.version())));
+    args.add(encode.apply(stored.employee() == null ? "0" : "1"));
+    args.add(encode.apply(Integer.toString(writes.size())));
+    for (IndexWrite write : writes) {
+      keys.add(write.key());
+      args.add(encode.apply(write.command()));
+      args.add(encode.apply(write.member()));
+    }
+  }
+
+  /** Appends an item that was not read, which a script writes unchecked and without index moves. */
+  static <T> void addUnread(List<T> args, Function<String, T> encode) {
+    args.add(encode.apply(""));
+    args.add(encode.apply("0"));
+    args.add(encode.apply("0"));
+  }
+
+  /** Parses a version read from the EmployeeVersions hash, 0 when it was never written. */
+  static long parseVersion(String version) {
+    return version == null ? 0 : Long.parseLong(version);
+  }
+
+  static byte[] bytes(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+}
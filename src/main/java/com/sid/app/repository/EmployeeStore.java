@@ -0,0 +1,64 @@
+package com.sid.app.repository;
+
+import com.sid.app.model.Employee;
+import com.sid.app.model.EmployeeField;
+import com.sid.app.model.EmployeeUpsert;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Storage abstraction for Employee records in Redis.
+ *
+ * <p>Implementations differ in how an employee is laid out in Redis; see {@link BlobEmployeeStore}
+ * and {@link FieldHashEmployeeStore}.
+ *
+ * @author Siddhant Patni
+ */
+public interface EmployeeStore {
+
+  /** Returns the employee with the given ID, or null if it does not exist. */
+  Employee findById(String id);
+
+  /**
+   * Returns only the requested fields of the employee with the given ID, or null if it does not
+   * exist.
+   */
+  Map<String, Object> findFieldsById(String id, List<EmployeeField> fields);
+
+  /** Returns all employees. */
+  List<Employee> findAll();
+
+  /** Returns only the requested fields of all employees. */
+  List<Map<String, Object>> findAllFields(List<EmployeeField> fields);
+
+  /**
+   * Reads the given employees with their versions, in order. All versions are read before the
+   * employees, so a write landing in between leaves a newer version in Redis than the one returned
+   * and the batch writes below reject the read as stale.
+   */
+  List<StoredEmployee> read(List<String> ids);
+
+  /**
+   * Applies the conditional upserts together with their name index moves atomically in one round
+   * trip and returns one result per item, in order. Every write that applies increments the
+   * employee's version. {@code stored} holds the employees as read, paired by position; nothing is
+   * written and an empty list is returned when any of them changed since, so the caller re-reads
+   * and retries.
+   */
+  List<EmployeeWriteResult> upsertBatch(List<EmployeeUpsert> upserts, List<StoredEmployee> stored);
+
+  /**
+   * Deletes the given employees together with their name index entries atomically in one round trip
+   * and returns one result per employee, in order. Nothing is written and an empty list is returned
+   * when any of them changed since it was read, so the caller re-reads and retries.
+   */
+  List<EmployeeWriteResult> deleteBatch(List<StoredEmployee> stored);
+
+  /**
+   * Deletes those of the given employees still listed in the department's ID set, together with
+   * their index entries, atomically in one round trip, and returns one result per employee, in
+   * order. Employees moved away since the set was read are reported NOT_FOUND and left alone.
+   * Nothing is written and an empty list is returned when any of them changed since it was read.
+   */
+  List<EmployeeWriteResult> deleteFromDepartment(String department, List<StoredEmployee> stored);
+}
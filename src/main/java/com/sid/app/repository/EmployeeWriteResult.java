@@ -0,0 +1,17 @@
+package com.sid.app.repository;
+
+import com.sid.app.model.BatchOutcome;
+import com.sid.app.model.Employee;
+
+/**
+ * Outcome of one item of a batch written by an {@link EmployeeStore} script.
+ *
+ * @param id identifier of the employee
+ * @param outcome what happened to the item
+ * @param version version of the employee after the batch
+ * @param current the employee as stored after the item was applied, or null if it was deleted or
+ *     not applied
+ * @author Siddhant Patni
+ */
+public record EmployeeWriteResult(
+    String id, BatchOutcome outcome, long version, Employee current) {}
@@ -0,0 +1,254 @@
+package com.sid.app.repository;
+
+import com.sid.app.constants.AppConstants;
+import com.sid.app.model.Employee;
+import com.sid.app.model.EmployeeField;
+import com.sid.app.model.EmployeeUpsert;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Stores every employee in its own {@code Employee:<id>} hash with one Redis field per attribute,
+ * plus an {@code EmployeeIds} set listing the stored IDs.
+ *
+ * <p>Projections are served by HMGET of only the requested fields, so reading a single attribute
+ * transfers and decodes only that attribute. The {@code id} field is always fetched alongside the
+ * requested ones to tell a missing employee apart from absent fields in one round trip. Versions
+ * live in the {@code EmployeeVersions} hash keyed by ID.
+ *
+ * @author Siddhant Patni
+ */
+@Component
+public class FieldHashEmployeeStore implements EmployeeStore {
+
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> UPSERT = EmployeeScripts.load("employee-hash-upsert");
+
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> DELETE = EmployeeScripts.load("employee-hash-delete");
+
+  private final StringRedisTemplate stringRedisTemplate;
+
+  @Autowired
+  public FieldHashEmployeeStore(StringRedisTemplate stringRedisTemplate) {
+    this.stringRedisTemplate = stringRedisTemplate;
+  }
+
+  /** Returns the Redis key of the hash holding the given employee. */
+  public static String key(String id) {
+    return AppConstants.EMPLOYEE_KEY_PREFIX + id;
+  }
+
+  /**
+   * Saves the given employees that do not exist in this layout yet, used for bulk loads such as
+   * migration. Runs as one atomic insert-if-absent script, so an employee written in this layout
+   * since is never overwritten. The name index is shared by both layouts and already lists them, so
+   * it is left alone. Returns the number of employees written.
+   */
+  public long saveAllAbsent(Collection<Employee> employees) {
+    List<EmployeeUpsert> inserts =
+        employees.stream().map(employee -> new EmployeeUpsert(employee, null)).toList();
+    return upsert(inserts, null).stream().filter(result -> result.outcome().isApplied()).count();
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public List<StoredEmployee> read(List<String> ids) {
+    HashOperations<String, String, String> hashOperations = stringRedisTemplate.opsForHash();
+    List<String> versions = hashOperations.multiGet(AppConstants.EMPLOYEE_VERSION_KEY, ids);
+    List<Object> hashes =
+        StringRedisSessions.inPipeline(
+            stringRedisTemplate,
+            operations -> {
+              for (String id : ids) {
+                operations.<String, String>opsForHash().entries(key(id));
+              }
+            });
+    List<StoredEmployee> stored = new ArrayList<>(ids.size());
+    for (int i = 0; i < ids.size(); i++) {
+      Map<String, String> hash = (Map<String, String>) hashes.get(i);
+      stored.add(
+          new StoredEmployee(
+              ids.get(i),
+              hash == null || hash.isEmpty() ? null : EmployeeField.fromHash(hash),
+              EmployeeScripts.parseVersion(versions == null ? null : versions.get(i))));
+    }
+    return stored;
+  }
+
+  @Override
+  public Employee findById(String id) {
+    HashOperations<String, String, String> hashOperations = stringRedisTemplate.opsForHash();
+    Map<String, String> hash = hashOperations.entries(key(id));
+    return hash == null || hash.isEmpty() ? null : EmployeeField.fromHash(hash);
+  }
+
+  @Override
+  public Map<String, Object> findFieldsById(String id, List<EmployeeField> fields) {
+    HashOperations<String, String, String> hashOperations = stringRedisTemplate.opsForHash();
+    List<String> values = hashOperations.multiGet(key(id), withId(fields));
+    return toProjection(fields, values);
+  }
+
+  @Override
+  public List<Employee> findAll() {
+    return load(ids());
+  }
+
+  /** Reads up to {@code limit} randomly chosen employees (SRANDMEMBER), e.g. for size sampling. */
+  public List<Employee> sample(int limit) {
+    Set<String> ids =
+        stringRedisTemplate
+            .opsForSet()
+            .distinctRandomMembers(AppConstants.EMPLOYEE_ID_INDEX_KEY, limit);
+    return load(ids == null ? Set.of() : ids);
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<Employee> load(Set<String> ids) {
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+    List<Object> hashes =
+        StringRedisSessions.inPipeline(
+            stringRedisTemplate,
+            operations -> {
+              for (String id : ids) {
+                operations.<String, String>opsForHash().entries(key(id));
+              }
+            });
+    return hashes.stream()
+        .map(hash -> (Map<String, String>) hash)
+        .filter(hash -> hash != null && !hash.isEmpty())
+        .map(EmployeeField::fromHash)
+        .toList();
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public List<Map<String, Object>> findAllFields(List<EmployeeField> fields) {
+    Set<String> ids = ids();
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+    List<String> fieldNames = withId(fields);
+    List<Object> rows =
+        StringRedisSessions.inPipeline(
+            stringRedisTemplate,
+            operations -> {
+              for (String id : ids) {
+                operations.<String, String>opsForHash().multiGet(key(id), fieldNames);
+              }
+            });
+    return rows.stream()
+        .map(values -> toProjection(fields, (List<String>) values))
+        .filter(Objects::nonNull)
+        .toList();
+  }
+
+  @Override
+  public List<EmployeeWriteResult> upsertBatch(
+      List<EmployeeUpsert> upserts, List<StoredEmployee> stored) {
+    return upsert(upserts, stored);
+  }
+
+  @Override
+  public List<EmployeeWriteResult> deleteBatch(List<StoredEmployee> stored) {
+    return delete(null, stored);
+  }
+
+  @Override
+  public List<EmployeeWriteResult> deleteFromDepartment(
+      String department, List<StoredEmployee> stored) {
+    return delete(EmployeeNameIndex.departmentKey(department), stored);
+  }
+
+  /**
+   * Runs the upsert script. Without {@code stored} the items are written unchecked and without
+   * index moves.
+   */
+  private List<EmployeeWriteResult> upsert(
+      List<EmployeeUpsert> upserts, List<StoredEmployee> stored) {
+    List<String> keys = new ArrayList<>();
+    keys.add(AppConstants.EMPLOYEE_ID_INDEX_KEY);
+    keys.add(AppConstants.EMPLOYEE_VERSION_KEY);
+    List<String> args = new ArrayList<>();
+    List<String> ids = new ArrayList<>(upserts.size());
+    List<Employee> written = new ArrayList<>(upserts.size());
+    for (int i = 0; i < upserts.size(); i++) {
+      Employee employee = upserts.get(i).getEmployee();
+      Map<String, String> hash = EmployeeField.toHash(employee);
+      ids.add(employee.getId());
+      written.add(employee);
+      keys.add(key(employee.getId()));
+      args.add(employee.getId());
+      args.add(EmployeeScripts.expected(upserts.get(i)));
+      args.add(Integer.toString(hash.size()));
+      hash.forEach(
+          (field, value) -> {
+            args.add(field);
+            args.add(value);
+          });
+      if (stored == null) {
+        EmployeeScripts.addUnread(args, String::valueOf);
+      } else {
+        EmployeeScripts.addRead(stored.get(i), employee, keys, args, String::valueOf);
+      }
+    }
+    return EmployeeScripts.results(run(UPSERT, keys, args), ids, written);
+  }
+
+  /** Runs the delete script, scoped to the given department ID set unless that is null. */
+  private List<EmployeeWriteResult> delete(String departmentKey, List<StoredEmployee> stored) {
+    List<String> keys = new ArrayList<>();
+    keys.add(AppConstants.EMPLOYEE_ID_INDEX_KEY);
+    keys.add(AppConstants.EMPLOYEE_VERSION_KEY);
+    List<String> args = new ArrayList<>();
+    args.add(departmentKey == null ? "0" : "1");
+    if (departmentKey != null) {
+      keys.add(departmentKey);
+    }
+    for (StoredEmployee employee : stored) {
+      keys.add(key(employee.id()));
+      args.add(employee.id());
+      EmployeeScripts.addRead(employee, null, keys, args, String::valueOf);
+    }
+    return EmployeeScripts.results(
+        run(DELETE, keys, args), stored.stream().map(StoredEmployee::id).toList(), null);
+  }
+
+  @SuppressWarnings("rawtypes")
+  private List<Object> run(RedisScript<List> script, List<String> keys, List<String> args) {
+    return EmployeeScripts.execute(
+        stringRedisTemplate, script, RedisSerializer.string(), keys, args);
+  }
+
+  private Set<String> ids() {
+    Set<String> ids = stringRedisTemplate.opsForSet().members(AppConstants.EMPLOYEE_ID_INDEX_KEY);
+    return ids == null ? Set.of() : ids;
+  }
+
+  private static List<String> withId(List<EmployeeField> fields) {
+    List<String> fieldNames = new ArrayList<>(fields.size() + 1);
+    fieldNames.add(EmployeeField.ID.fieldName());
+    fieldNames.addAll(EmployeeField.names(fields));
+    return fieldNames;
+  }
+
+  private static Map<String, Object> toProjection(List<EmployeeField> fields, List<String> values) {
+    if (values == null || values.isEmpty() || values.get(0) == null) {
+      return null;
+    }
+    return EmployeeField.project(fields, values.subList(1, values.size()));
+  }
+}
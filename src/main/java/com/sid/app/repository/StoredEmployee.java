@@ -0,0 +1,14 @@
+package com.sid.app.repository;
+
+import com.sid.app.model.Employee;
+
+/**
+ * An employee as read from an {@link EmployeeStore} together with its version. Batch writes take it
+ * as the state they expect to find, and only apply while the employee is still stored that way.
+ *
+ * @param id identifier of the employee
+ * @param employee the stored employee, or null if it does not exist
+ * @param version version of the employee, 0 if it was never written
+ * @author Siddhant Patni
+ */
+public record StoredEmployee(String id, Employee employee, long version) {}
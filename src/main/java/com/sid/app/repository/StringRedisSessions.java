@@ -0,0 +1,33 @@
+package com.sid.app.repository;
+
+import java.util.List;
+import java.util.function.Consumer;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * Helpers for running a group of string commands on one connection as a pipeline.
+ *
+ * @author Siddhant Patni
+ */
+final class StringRedisSessions {
+
+  private StringRedisSessions() {}
+
+  /** Runs the commands in a single pipeline and returns the deserialized replies in order. */
+  static List<Object> inPipeline(
+      StringRedisTemplate stringRedisTemplate, Consumer<RedisOperations<String, String>> commands) {
+    return stringRedisTemplate.executePipelined(
+        new SessionCallback<Object>() {
+          @Override
+          @SuppressWarnings("unchecked")
+          public <K, V> Object execute(RedisOperations<K, V> operations)
+              throws DataAccessException {
+            commands.accept((RedisOperations<String, String>) operations);
+            return null;
+          }
+        });
+  }
+}
@@ -0,0 +1,37 @@
+package com.sid.app.service;
+
+import com.sid.app.config.EmployeeNameIndexProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rebuilds the employee name index on startup when {@code employee.name-index.rebuild-on-startup}
+ * is enabled, so that employees saved before the index existed become searchable. Runs after the
+ * storage migration so that the rebuild reads from the active layout.
+ *
+ * @author Siddhant Patni
+ */
+@Component
+@Order(1)
+public class EmployeeNameIndexInitializer implements ApplicationRunner {
+
+  private final EmployeeService employeeService;
+  private final EmployeeNameIndexProperties properties;
+
+  @Autowired
+  public EmployeeNameIndexInitializer(
+      EmployeeService employeeService, EmployeeNameIndexProperties properties) {
+    this.employeeService = employeeService;
+    this.properties = properties;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) {
+    if (properties.isRebuildOnStartup()) {
+      employeeService.rebuildNameIndex();
+    }
+  }
+}
@@ -1,30 +1,74 @@
 package com.sid.app.service;
 
+import com.sid.app.config.EmployeeBatchProperties;
+import com.sid.app.config.EmployeeNameIndexProperties;
+import com.sid.app.config.RedisResilienceProperties;
+import com.sid.app.exception.InvalidBatchException;
+import com.sid.app.exception.RedisUnavailableException;
 import com.sid.app.exception.UserNotFoundException;
+import com.sid.app.model.BatchOutcome;
 import com.sid.app.model.Employee;
+import com.sid.app.model.EmployeeBatchResult;
+import com.sid.app.model.EmployeeField;
+import com.sid.app.model.EmployeeSuggestion;
+import com.sid.app.model.EmployeeUpsert;
+import com.sid.app.repository.EmployeeNameIndex;
+import com.sid.app.repository.EmployeeStore;
+import com.sid.app.repository.EmployeeWriteResult;
+import com.sid.app.repository.StoredEmployee;
+import com.sid.app.service.EmployeeSnapshotCache.Snapshot;
+import com.sid.app.service.EmployeeWriteQueue.QueuedWrite;
+import com.sid.app.utils.ResponseMetadata;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 @Slf4j
 @Service
 public class EmployeeService {
 
-  public static final String HASH_KEY = "Employee";
-
-  private final RedisTemplate<String, Object> redisTemplate;
+  private final EmployeeStore employeeStore;
+  private final EmployeeNameIndex employeeNameIndex;
+  private final EmployeeNameIndexProperties nameIndexProperties;
+  private final RedisGuard redisGuard;
+  private final EmployeeSnapshotCache snapshotCache;
+  private final EmployeeWriteQueue writeQueue;
+  private final RedisResilienceProperties resilienceProperties;
+  private final EmployeeBatchProperties batchProperties;
 
   @Autowired
-  public EmployeeService(RedisTemplate<String, Object> redisTemplate) {
-    this.redisTemplate = redisTemplate;
+  public EmployeeService(
+      EmployeeStore employeeStore,
+      EmployeeNameIndex employeeNameIndex,
+      EmployeeNameIndexProperties nameIndexProperties,
+      RedisGuard redisGuard,
+      EmployeeSnapshotCache snapshotCache,
+      EmployeeWriteQueue writeQueue,
+      RedisResilienceProperties resilienceProperties,
+      EmployeeBatchProperties batchProperties) {
+    this.employeeStore = employeeStore;
+    this.employeeNameIndex = employeeNameIndex;
+    this.nameIndexProperties = nameIndexProperties;
+    this.redisGuard = redisGuard;
+    this.snapshotCache = snapshotCache;
+    this.writeQueue = writeQueue;
+    this.resilienceProperties = resilienceProperties;
+    this.batchProperties = batchProperties;
   }
 
-  /** Save or update an employee in Redis. */
+  /** Save or update an employee in Redis, keeping the name index in step with renames. */
   public Employee saveEmployee(Employee employee) {
     log.info("Saving employee with ID: {}", employee.getId());
-    redisTemplate.opsForHash().put(HASH_KEY, employee.getId(), employee);
+    write("saveEmployee", QueuedWrite.save(employee));
+    snapshotCache.put(employee);
     log.debug("Employee saved successfully: {}", employee);
     return employee;
   }
@@ -32,7 +76,8 @@ public class EmployeeService {
   /** Get an employee by ID from Redis. */
   public Employee getEmployeeById(String id) {
     log.info("Fetching employee with ID: {}", id);
-    Employee employee = (Employee) redisTemplate.opsForHash().get(HASH_KEY, id);
+    Employee employee =
+        redisGuard.read("getEmployeeById", () -> findAndSnapshot(id), () -> snapshotCache.get(id));
     if (employee == null) {
       log.warn("Employee with ID {} not found", id);
       throw new UserNotFoundException(id);
@@ -41,28 +86,360 @@ public class EmployeeService {
     return employee;
   }
 
+  /** Get only the requested fields of an employee by ID from Redis. */
+  public Map<String, Object> getEmployeeFieldsById(String id, List<String> fieldNames) {
+    List<EmployeeField> fields = EmployeeField.of(fieldNames);
+    log.info("Fetching fields {} of employee with ID: {}", fields, id);
+    Map<String, Object> projection =
+        redisGuard.read(
+            "getEmployeeFieldsById",
+            () -> employeeStore.findFieldsById(id, fields),
+            () ->
+                snapshotCache
+                    .get(id)
+                    .map(
+                        snapshot ->
+                            new Snapshot<>(
+                                EmployeeField.project(snapshot.value(), fields),
+                                snapshot.capturedAt())));
+    if (projection == null) {
+      log.warn("Employee with ID {} not found", id);
+      throw new UserNotFoundException(id);
+    }
+    log.debug("Employee fields found: {}", projection);
+    return projection;
+  }
+
   /** Get all employees from Redis. */
   public List<Employee> getAllEmployees() {
     log.info("Fetching all employees");
 
     List<Employee> employees =
-        redisTemplate.opsForHash().values(HASH_KEY).stream()
-            .map(obj -> (Employee) obj)
-            .toList(); //
+        redisGuard.readBulk("getAllEmployees", this::findAllAndSnapshot, snapshotCache::all);
 
     log.debug("Total employees fetched: {}", employees.size());
     return employees;
   }
 
+  /** Get only the requested fields of all employees from Redis. */
+  public List<Map<String, Object>> getAllEmployeeFields(List<String> fieldNames) {
+    List<EmployeeField> fields = EmployeeField.of(fieldNames);
+    log.info("Fetching fields {} of all employees", fields);
+
+    List<Map<String, Object>> projections =
+        redisGuard.readBulk(
+            "getAllEmployeeFields",
+            () -> employeeStore.findAllFields(fields),
+            () ->
+                snapshotCache
+                    .all()
+                    .map(
+                        snapshot ->
+                            new Snapshot<>(
+                                snapshot.value().stream()
+                                    .map(employee -> EmployeeField.project(employee, fields))
+                                    .toList(),
+                                snapshot.capturedAt())));
+
+    log.debug("Total employees fetched: {}", projections.size());
+    return projections;
+  }
+
   /** Delete an employee by ID from Redis. */
   public String deleteEmployee(String id) {
     log.info("Deleting employee with ID: {}", id);
-    Long removed = redisTemplate.opsForHash().delete(HASH_KEY, id);
-    if (removed == null || removed == 0) {
-      log.warn("Employee with ID {} not found for deletion", id);
-      throw new UserNotFoundException(id);
-    }
+    write("deleteEmployee", QueuedWrite.delete(id));
+    snapshotCache.remove(id);
     log.debug("Employee with ID {} deleted successfully", id);
     return "Employee removed!!";
   }
+
+  /**
+   * Apply conditional upserts together with their name index moves as one atomic script: an item
+   * without an expected version is only inserted if the employee does not exist, one with an
+   * expected version only replaces an employee stored at that version. Batches are never queued,
+   * since callers need the per-item outcomes.
+   */
+  public List<EmployeeBatchResult> upsertEmployees(List<EmployeeUpsert> upserts) {
+    requireBatchSize(upserts);
+    for (EmployeeUpsert upsert : upserts) {
+      if (upsert == null || upsert.getEmployee() == null || isBlank(upsert.getEmployee().getId())) {
+        throw new InvalidBatchException("Every upsert needs an employee with an id");
+      }
+      if (upsert.getExpectedVersion() != null && upsert.getExpectedVersion() < 0) {
+        throw new InvalidBatchException("Expected versions must not be negative");
+      }
+    }
+    List<String> ids = upserts.stream().map(upsert -> upsert.getEmployee().getId()).toList();
+    if (new HashSet<>(ids).size() != ids.size()) {
+      throw new InvalidBatchException("Employee ids in a batch must be unique");
+    }
+    log.info("Upserting batch of {} employees", upserts.size());
+    List<EmployeeWriteResult> results =
+        writeBatch(
+            "upsertEmployees",
+            () -> readAndWrite(ids, stored -> employeeStore.upsertBatch(upserts, stored)));
+    results.stream()
+        .filter(result -> result.outcome().isApplied())
+        .forEach(result -> snapshotCache.put(result.current()));
+    return toBatchResults(results);
+  }
+
+  /**
+   * Delete the given employees together with their name index entries as one atomic script,
+   * reporting the outcome per ID.
+   */
+  public List<EmployeeBatchResult> deleteEmployees(List<String> ids) {
+    requireBatchSize(ids);
+    if (ids.stream().anyMatch(EmployeeService::isBlank)) {
+      throw new InvalidBatchException("Employee ids must not be blank");
+    }
+    log.info("Deleting batch of {} employees", ids.size());
+    List<EmployeeWriteResult> results =
+        writeBatch("deleteEmployees", () -> readAndWrite(ids, employeeStore::deleteBatch));
+    results.forEach(result -> snapshotCache.remove(result.id()));
+    return toBatchResults(results);
+  }
+
+  /**
+   * Delete every employee of a department, found through the department's ID set, in chunks of the
+   * configured size. Each chunk is one atomic script that also removes the index entries.
+   */
+  public List<EmployeeBatchResult> deleteEmployeesByDepartment(String department) {
+    if (isBlank(department)) {
+      throw new InvalidBatchException("Department must not be blank");
+    }
+    log.info("Deleting employees of department: {}", department);
+    int chunkSize = Math.max(1, batchProperties.getDepartmentChunkSize());
+    List<EmployeeBatchResult> deleted = new ArrayList<>();
+    List<EmployeeWriteResult> chunk;
+    do {
+      chunk =
+          writeBatch(
+              "deleteEmployeesByDepartment",
+              () -> {
+                List<String> ids = employeeNameIndex.departmentMembers(department, chunkSize);
+                return ids.isEmpty()
+                    ? List.<EmployeeWriteResult>of()
+                    : readAndWrite(
+                        ids, stored -> employeeStore.deleteFromDepartment(department, stored));
+              });
+      chunk.forEach(result -> snapshotCache.remove(result.id()));
+      deleted.addAll(toBatchResults(chunk));
+    } while (chunk.size() == chunkSize);
+    log.info("Department {} delete finished with {} results", department, deleted.size());
+    return deleted;
+  }
+
+  /**
+   * Suggest employees whose name starts with the given prefix, optionally within a department. The
+   * limit falls back to the configured default and is capped at the configured maximum.
+   */
+  public List<EmployeeSuggestion> autocomplete(String prefix, String department, Integer limit) {
+    int effectiveLimit =
+        limit == null || limit <= 0
+            ? nameIndexProperties.getDefaultLimit()
+            : Math.min(limit, nameIndexProperties.getMaxLimit());
+    log.info(
+        "Autocompleting prefix '{}' in department {} with limit {}",
+        prefix,
+        department,
+        effectiveLimit);
+
+    List<EmployeeSuggestion> suggestions =
+        redisGuard.read(
+            "autocomplete",
+            () -> employeeNameIndex.search(prefix, department, effectiveLimit),
+            () ->
+                snapshotCache
+                    .all()
+                    .map(
+                        snapshot ->
+                            new Snapshot<>(
+                                autocompleteFromSnapshot(
+                                    snapshot.value(), prefix, department, effectiveLimit),
+                                snapshot.capturedAt())));
+
+    log.debug("Total suggestions found: {}", suggestions.size());
+    return suggestions;
+  }
+
+  /** Rebuild the name index from all stored employees. */
+  public int rebuildNameIndex() {
+    log.info("Rebuilding employee name index");
+    int indexed = employeeNameIndex.rebuild(employeeStore::findAll);
+    log.info("Employee name index rebuilt with {} employees", indexed);
+    return indexed;
+  }
+
+  /**
+   * Replay writes queued while Redis was unavailable, oldest first, stopping at the first failure
+   * so that ordering is preserved.
+   */
+  @Scheduled(fixedDelayString = "${employee.resilience.replay-interval-ms:1000}")
+  public void replayQueuedWrites() {
+    QueuedWrite write;
+    while ((write = writeQueue.peek()) != null && redisGuard.isCallPermitted()) {
+      QueuedWrite next = write;
+      try {
+        redisGuard.write("replayQueuedWrite", () -> apply(next));
+      } catch (RedisUnavailableException e) {
+        log.warn("Replay of queued writes paused, {} remaining", writeQueue.size());
+        return;
+      } catch (UserNotFoundException e) {
+        log.info("Queued delete of employee {} found nothing to delete", next.id());
+      }
+      writeQueue.remove(next);
+      log.debug("Replayed queued write for employee {}", next.id());
+    }
+  }
+
+  /**
+   * Applies a write through the circuit breaker. While Redis is unavailable the write is rejected
+   * or, in QUEUE mode, queued; in QUEUE mode writes also queue behind any pending replay so they
+   * are applied in order.
+   */
+  private void write(String operation, QueuedWrite write) {
+    boolean queueMode =
+        resilienceProperties.getWriteMode() == RedisResilienceProperties.WriteMode.QUEUE;
+    if (queueMode && !writeQueue.isEmpty()) {
+      enqueue(write, null);
+      return;
+    }
+    try {
+      redisGuard.write(operation, () -> apply(write));
+    } catch (RedisUnavailableException e) {
+      if (!queueMode) {
+        throw e;
+      }
+      enqueue(write, e);
+    }
+  }
+
+  /**
+   * Runs a batch through the circuit breaker. In QUEUE mode a batch is rejected while queued writes
+   * are pending, so that it cannot overtake them.
+   */
+  private <T> T writeBatch(String operation, Supplier<T> batch) {
+    if (resilienceProperties.getWriteMode() == RedisResilienceProperties.WriteMode.QUEUE
+        && !writeQueue.isEmpty()) {
+      log.warn("Rejecting {} while {} queued writes are pending", operation, writeQueue.size());
+      throw new RedisUnavailableException(
+          operation,
+          Math.max(1, resilienceProperties.getWaitDurationInOpenState().toSeconds()),
+          null);
+    }
+    return redisGuard.writeBulk(operation, batch);
+  }
+
+  /**
+   * Reads the given employees and runs a batch write that only applies while they are still stored
+   * as read. An empty result means one of them changed in between, which only happens when another
+   * write went through, so re-reading and retrying always makes progress.
+   */
+  private List<EmployeeWriteResult> readAndWrite(
+      List<String> ids, Function<List<StoredEmployee>, List<EmployeeWriteResult>> write) {
+    List<EmployeeWriteResult> results;
+    do {
+      results = write.apply(employeeStore.read(ids));
+    } while (results.isEmpty());
+    return results;
+  }
+
+  private void requireBatchSize(List<?> items) {
+    if (items == null || items.isEmpty() || items.size() > batchProperties.getMaxItems()) {
+      throw new InvalidBatchException(
+          "A batch must contain between 1 and " + batchProperties.getMaxItems() + " items");
+    }
+  }
+
+  private static List<EmployeeBatchResult> toBatchResults(List<EmployeeWriteResult> results) {
+    return results.stream()
+        .map(result -> new EmployeeBatchResult(result.id(), result.outcome(), result.version()))
+        .toList();
+  }
+
+  private static boolean isBlank(String value) {
+    return value == null || value.isBlank();
+  }
+
+  private void enqueue(QueuedWrite write, RedisUnavailableException cause) {
+    if (!writeQueue.offer(write)) {
+      log.warn("Write queue full, rejecting write for employee {}", write.id());
+      throw cause != null
+          ? cause
+          : new RedisUnavailableException(
+              "queued write",
+              Math.max(1, resilienceProperties.getWaitDurationInOpenState().toSeconds()),
+              null);
+    }
+    log.info("Queued write for employee {} ({} pending)", write.id(), writeQueue.size());
+    ResponseMetadata.markWriteQueued();
+  }
+
+  /** Reads an employee from Redis and refreshes its snapshot; only called when Redis answered. */
+  private Employee findAndSnapshot(String id) {
+    Employee employee = employeeStore.findById(id);
+    if (employee == null) {
+      snapshotCache.remove(id);
+    } else {
+      snapshotCache.put(employee);
+    }
+    return employee;
+  }
+
+  private List<Employee> findAllAndSnapshot() {
+    List<Employee> employees = employeeStore.findAll();
+    snapshotCache.putAll(employees);
+    return employees;
+  }
+
+  /**
+   * Applies a save or delete together with its name index move as a batch of one. A save replaces
+   * the employee as read, or inserts it if it was absent, so it always applies once the read is
+   * current.
+   */
+  private void apply(QueuedWrite write) {
+    List<EmployeeWriteResult> results =
+        readAndWrite(
+            List.of(write.id()),
+            stored ->
+                write.employee() == null
+                    ? employeeStore.deleteBatch(stored)
+                    : employeeStore.upsertBatch(
+                        List.of(replacing(write.employee(), stored.get(0))), stored));
+    if (results.get(0).outcome() == BatchOutcome.NOT_FOUND) {
+      log.warn("Employee with ID {} not found for deletion", write.id());
+      throw new UserNotFoundException(write.id());
+    }
+  }
+
+  /** Returns an upsert that replaces the employee as read, or inserts it if it was absent. */
+  private static EmployeeUpsert replacing(Employee employee, StoredEmployee stored) {
+    return new EmployeeUpsert(employee, stored.employee() == null ? null : stored.version());
+  }
+
+  private static List<EmployeeSuggestion> autocompleteFromSnapshot(
+      List<Employee> employees, String prefix, String department, int limit) {
+    String normalizedPrefix = EmployeeNameIndex.normalize(prefix);
+    String normalizedDepartment =
+        department == null ? null : EmployeeNameIndex.normalize(department);
+    return employees.stream()
+        .filter(employee -> employee.getName() != null)
+        .filter(
+            employee ->
+                EmployeeNameIndex.normalize(employee.getName()).startsWith(normalizedPrefix))
+        .filter(
+            employee ->
+                normalizedDepartment == null
+                    || normalizedDepartment.equals(
+                        EmployeeNameIndex.normalize(employee.getDepartment())))
+        .sorted(
+            Comparator.comparing(
+                    (Employee employee) -> EmployeeNameIndex.normalize(employee.getName()))
+                .thenComparing(Employee::getId))
+        .limit(limit)
+        .map(employee -> new EmployeeSuggestion(employee.getId(), employee.getName()))
+        .toList();
+  }
 }
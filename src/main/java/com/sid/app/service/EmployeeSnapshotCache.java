@@ -0,0 +1,120 @@
+package com.sid.app.service;
+
+import com.sid.app.config.RedisResilienceProperties;
+import com.sid.app.model.Employee;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Local last-known-good copy of employees read from or written to Redis, used to keep serving reads
+ * while Redis is unavailable.
+ *
+ * <p>Single employees are kept in a bounded LRU map; the most recent full list is kept separately
+ * and patched by later writes. Every entry records when it was captured so responses served from it
+ * can report their staleness. Employees are copied on the way in and out, so callers mutating an
+ * employee (for example to apply an update that Redis then rejects) never change a snapshot.
+ *
+ * @author Siddhant Patni
+ */
+@Component
+public class EmployeeSnapshotCache {
+
+  /** A value together with the instant it was last known to match Redis. */
+  public record Snapshot<T>(T value, Instant capturedAt) {}
+
+  private final Map<String, Snapshot<Employee>> employees;
+  private final Clock clock;
+  private volatile Snapshot<List<Employee>> allEmployees;
+
+  @Autowired
+  public EmployeeSnapshotCache(RedisResilienceProperties properties) {
+    this(properties.getSnapshotMaxEntries(), Clock.systemUTC());
+  }
+
+  EmployeeSnapshotCache(int maxEntries, Clock clock) {
+    this.clock = clock;
+    this.employees =
+        Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+              @Override
+              protected boolean removeEldestEntry(Map.Entry<String, Snapshot<Employee>> eldest) {
+                return size() > maxEntries;
+              }
+            });
+  }
+
+  /** Records the current state of an employee. */
+  public void put(Employee employee) {
+    Employee copy = copy(employee);
+    Instant now = clock.instant();
+    employees.put(copy.getId(), new Snapshot<>(copy, now));
+    Snapshot<List<Employee>> all = allEmployees;
+    if (all != null) {
+      List<Employee> updated = new ArrayList<>(all.value().size() + 1);
+      boolean replaced = false;
+      for (Employee existing : all.value()) {
+        if (existing.getId().equals(copy.getId())) {
+          updated.add(copy);
+          replaced = true;
+        } else {
+          updated.add(existing);
+        }
+      }
+      if (!replaced) {
+        updated.add(copy);
+      }
+      allEmployees = new Snapshot<>(List.copyOf(updated), all.capturedAt());
+    }
+  }
+
+  /** Records the full list of employees, replacing the previous list. */
+  public void putAll(List<Employee> all) {
+    Instant now = clock.instant();
+    List<Employee> copies = all.stream().map(EmployeeSnapshotCache::copy).toList();
+    allEmployees = new Snapshot<>(copies, now);
+    for (Employee employee : copies) {
+      employees.put(employee.getId(), new Snapshot<>(employee, now));
+    }
+  }
+
+  /** Forgets an employee that no longer exists. */
+  public void remove(String id) {
+    employees.remove(id);
+    Snapshot<List<Employee>> all = allEmployees;
+    if (all != null) {
+      allEmployees =
+          new Snapshot<>(
+              all.value().stream().filter(employee -> !employee.getId().equals(id)).toList(),
+              all.capturedAt());
+    }
+  }
+
+  /** Returns the last known state of an employee, if any. */
+  public Optional<Snapshot<Employee>> get(String id) {
+    return Optional.ofNullable(employees.get(id))
+        .map(snapshot -> new Snapshot<>(copy(snapshot.value()), snapshot.capturedAt()));
+  }
+
+  /** Returns the last known full list of employees, if any. */
+  public Optional<Snapshot<List<Employee>>> all() {
+    return Optional.ofNullable(allEmployees)
+        .map(
+            snapshot ->
+                new Snapshot<>(
+                    snapshot.value().stream().map(EmployeeSnapshotCache::copy).toList(),
+                    snapshot.capturedAt()));
+  }
+
+  private static Employee copy(Employee employee) {
+    return new Employee(
+        employee.getId(), employee.getName(), employee.getDepartment(), employee.getSalary());
+  }
+}
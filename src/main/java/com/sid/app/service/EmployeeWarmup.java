@@ -0,0 +1,113 @@
+package com.sid.app.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sid.app.config.EmployeeWarmupProperties;
+import com.sid.app.model.Employee;
+import com.sid.app.model.EmployeeSuggestion;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Warms the instance up before it takes traffic when {@code employee.warmup.enabled} is set.
+ *
+ * <p>Application runners complete before Spring Boot publishes the ACCEPTING_TRAFFIC readiness
+ * state, so {@code /actuator/health/readiness} only reports UP once this has finished. The warm-up
+ * reads hot employees through the regular service path, which opens the Lettuce connection and
+ * fills the local snapshot cache, and round-trips the results through the MVC {@link ObjectMapper}
+ * so the first requests do not pay for Jackson serializer creation. Failures are logged and never
+ * prevent startup.
+ *
+ * @author Siddhant Patni
+ */
+@Slf4j
+@Component
+@Order(2)
+public class EmployeeWarmup implements ApplicationRunner {
+
+  private final EmployeeService employeeService;
+  private final ObjectMapper objectMapper;
+  private final EmployeeWarmupProperties properties;
+
+  @Autowired
+  public EmployeeWarmup(
+      EmployeeService employeeService,
+      ObjectMapper objectMapper,
+      EmployeeWarmupProperties properties) {
+    this.employeeService = employeeService;
+    this.objectMapper = objectMapper;
+    this.properties = properties;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) {
+    if (properties.isEnabled()) {
+      warmUp();
+    }
+  }
+
+  /**
+   * Preloads hot employees and primes the Redis and JSON paths.
+   *
+   * @return the number of employees loaded
+   */
+  public int warmUp() {
+    long start = System.nanoTime();
+    List<Employee> employees = new ArrayList<>();
+
+    if (properties.isPreloadAll()) {
+      try {
+        employees.addAll(employeeService.getAllEmployees());
+      } catch (RuntimeException e) {
+        log.warn("Warm-up could not preload employees: {}", e.getMessage());
+      }
+    }
+    for (String id : properties.getHotIds()) {
+      try {
+        Employee employee = employeeService.getEmployeeById(id);
+        if (employee != null) {
+          employees.add(employee);
+        }
+      } catch (RuntimeException e) {
+        log.warn("Warm-up could not load employee {}: {}", id, e.getMessage());
+      }
+    }
+
+    List<EmployeeSuggestion> suggestions = List.of();
+    if (!employees.isEmpty() && employees.get(0).getName() != null) {
+      try {
+        suggestions = employeeService.autocomplete(employees.get(0).getName(), null, 1);
+      } catch (RuntimeException e) {
+        log.warn("Warm-up could not query the name index: {}", e.getMessage());
+      }
+    }
+    primeJson(employees, suggestions);
+
+    log.info(
+        "Warm-up loaded {} employees in {} ms",
+        employees.size(),
+        (System.nanoTime() - start) / 1_000_000);
+    return employees.size();
+  }
+
+  private void primeJson(List<Employee> employees, List<EmployeeSuggestion> suggestions) {
+    List<Employee> sample =
+        employees.isEmpty() ? List.of(new Employee("warmup", "Warm Up", "Warm Up", 0)) : employees;
+    try {
+      objectMapper.readValue(
+          objectMapper.writeValueAsBytes(sample), new TypeReference<List<Employee>>() {});
+      objectMapper.readValue(
+          objectMapper.writeValueAsBytes(suggestions),
+          new TypeReference<List<EmployeeSuggestion>>() {});
+    } catch (IOException e) {
+      log.warn("Warm-up could not prime JSON serialization: {}", e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,63 @@
+package com.sid.app.service;
+
+import com.sid.app.config.RedisResilienceProperties;
+import com.sid.app.model.Employee;
+import java.util.concurrent.LinkedBlockingQueue;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded in-memory queue of writes accepted while Redis was unavailable, replayed in order once it
+ * recovers. Queued writes are lost if the instance stops before they are replayed.
+ *
+ * @author Siddhant Patni
+ */
+@Component
+public class EmployeeWriteQueue {
+
+  /** A queued save (employee set) or delete (only id set). */
+  public record QueuedWrite(String id, Employee employee) {
+
+    public static QueuedWrite save(Employee employee) {
+      return new QueuedWrite(employee.getId(), employee);
+    }
+
+    public static QueuedWrite delete(String id) {
+      return new QueuedWrite(id, null);
+    }
+
+    public boolean isDelete() {
+      return employee == null;
+    }
+  }
+
+  private final LinkedBlockingQueue<QueuedWrite> queue;
+
+  @Autowired
+  public EmployeeWriteQueue(RedisResilienceProperties properties) {
+    this.queue = new LinkedBlockingQueue<>(properties.getWriteQueueCapacity());
+  }
+
+  /** Queues a write, returning false if the queue is full. */
+  public boolean offer(QueuedWrite write) {
+    return queue.offer(write);
+  }
+
+  /** Returns the oldest queued write without removing it. */
+  public QueuedWrite peek() {
+    return queue.peek();
+  }
+
+  /** Removes the oldest queued write once it has been replayed. */
+  public void remove(QueuedWrite write) {
+    queue.remove(write);
+  }
+
+  public boolean isEmpty() {
+    return queue.isEmpty();
+  }
+
+  public int size() {
+    return queue.size();
+  }
+}
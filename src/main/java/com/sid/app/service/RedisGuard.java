@@ -0,0 +1,157 @@
+package com.sid.app.service;
+
+import com.sid.app.config.RedisResilienceProperties;
+import com.sid.app.exception.RedisUnavailableException;
+import com.sid.app.service.EmployeeSnapshotCache.Snapshot;
+import com.sid.app.utils.ResponseMetadata;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs Redis calls through the Redis circuit breaker. Reads fall back to a local snapshot and mark
+ * the response as stale; writes fail fast with {@link RedisUnavailableException} so the caller can
+ * reject or queue them. The time spent in each call is added to the current request for the
+ * concurrency limiter.
+ *
+ * <p>Bulk reads and batch writes have a much larger latency budget than point calls, so they only
+ * report their outcome to the breaker: their failures count, but their duration is not measured
+ * against {@code slow-call-duration}, which would otherwise open the breaker for point reads.
+ *
+ * @author Siddhant Patni
+ */
+@Slf4j
+@Component
+public class RedisGuard {
+
+  private final CircuitBreaker circuitBreaker;
+  private final RedisResilienceProperties properties;
+
+  @Autowired
+  public RedisGuard(CircuitBreaker redisCircuitBreaker, RedisResilienceProperties properties) {
+    this.circuitBreaker = redisCircuitBreaker;
+    this.properties = properties;
+  }
+
+  /**
+   * Runs a read, serving the fallback snapshot if the breaker is open or Redis fails.
+   *
+   * @throws RedisUnavailableException if Redis is unavailable and no snapshot exists
+   */
+  public <T> T read(String operation, Supplier<T> call, Supplier<Optional<Snapshot<T>>> fallback) {
+    return read(operation, call, fallback, false);
+  }
+
+  /**
+   * Runs an unbounded read such as a full scan, without counting it as a slow call.
+   *
+   * @throws RedisUnavailableException if Redis is unavailable and no snapshot exists
+   */
+  public <T> T readBulk(
+      String operation, Supplier<T> call, Supplier<Optional<Snapshot<T>>> fallback) {
+    return read(operation, call, fallback, true);
+  }
+
+  private <T> T read(
+      String operation, Supplier<T> call, Supplier<Optional<Snapshot<T>>> fallback, boolean bulk) {
+    long start = System.nanoTime();
+    try {
+      return execute(call, bulk);
+    } catch (CallNotPermittedException | DataAccessException e) {
+      Optional<Snapshot<T>> snapshot = fallback.get();
+      if (snapshot.isEmpty()) {
+        throw unavailable(operation, e);
+      }
+      log.warn(
+          "Redis unavailable for {} ({}), serving snapshot captured at {}",
+          operation,
+          e.getClass().getSimpleName(),
+          snapshot.get().capturedAt());
+      ResponseMetadata.markStale(snapshot.get().capturedAt());
+      return snapshot.get().value();
+    } finally {
+      ResponseMetadata.addRedisTime(System.nanoTime() - start);
+    }
+  }
+
+  /**
+   * Runs a write.
+   *
+   * @throws RedisUnavailableException if the breaker is open or Redis fails
+   */
+  public void write(String operation, Runnable call) {
+    write(
+        operation,
+        () -> {
+          call.run();
+          return null;
+        });
+  }
+
+  /**
+   * Runs a write that returns a result, such as a batch reporting per-item outcomes.
+   *
+   * @throws RedisUnavailableException if the breaker is open or Redis fails
+   */
+  public <T> T write(String operation, Supplier<T> call) {
+    return write(operation, call, false);
+  }
+
+  /**
+   * Runs a batch write, without counting it as a slow call.
+   *
+   * @throws RedisUnavailableException if the breaker is open or Redis fails
+   */
+  public <T> T writeBulk(String operation, Supplier<T> call) {
+    return write(operation, call, true);
+  }
+
+  private <T> T write(String operation, Supplier<T> call, boolean bulk) {
+    long start = System.nanoTime();
+    try {
+      return execute(call, bulk);
+    } catch (CallNotPermittedException | DataAccessException e) {
+      throw unavailable(operation, e);
+    } finally {
+      ResponseMetadata.addRedisTime(System.nanoTime() - start);
+    }
+  }
+
+  /** Reports whether the breaker currently lets calls through. */
+  public boolean isCallPermitted() {
+    CircuitBreaker.State state = circuitBreaker.getState();
+    return state != CircuitBreaker.State.OPEN && state != CircuitBreaker.State.FORCED_OPEN;
+  }
+
+  /**
+   * Runs a call through the breaker. Bulk calls are recorded with a zero duration so that only
+   * their outcome counts.
+   */
+  private <T> T execute(Supplier<T> call, boolean bulk) {
+    if (!bulk) {
+      return circuitBreaker.executeSupplier(call);
+    }
+    circuitBreaker.acquirePermission();
+    T result;
+    try {
+      result = call.get();
+    } catch (RuntimeException e) {
+      circuitBreaker.onError(0, TimeUnit.NANOSECONDS, e);
+      throw e;
+    }
+    circuitBreaker.onSuccess(0, TimeUnit.NANOSECONDS);
+    return result;
+  }
+
+  private RedisUnavailableException unavailable(String operation, RuntimeException cause) {
+    log.warn("Redis unavailable for {}: {}", operation, cause.getMessage());
+    long retryAfter = Math.max(1, properties.getWaitDurationInOpenState().toSeconds());
+    return new RedisUnavailableException(operation, retryAfter, cause);
+  }
+}
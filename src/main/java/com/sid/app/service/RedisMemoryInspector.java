@@ -0,0 +1,450 @@
+package com.sid.app.service;
+
+import com.sid.app.config.RedisMemoryReportProperties;
+import com.sid.app.constants.AppConstants;
+import com.sid.app.model.Employee;
+import com.sid.app.model.EmployeeField;
+import com.sid.app.model.RedisMemoryReport;
+import com.sid.app.model.RedisMemoryReport.KeyGroup;
+import com.sid.app.model.RedisMemoryReport.KeySample;
+import com.sid.app.repository.BlobEmployeeStore;
+import com.sid.app.repository.FieldHashEmployeeStore;
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.output.IntegerOutput;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.DataType;
+import org.springframework.data.redis.connection.DecoratedRedisConnection;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.lettuce.LettuceConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Service;
+
+/**
+ * Builds the {@link RedisMemoryReport} behind the {@code redismemory} actuator endpoint.
+ *
+ * <p>Keys are found with incremental SCAN ({@code COUNT employee.memory-report.scan-count}) up to a
+ * configured maximum, and every batch is inspected in one pipeline with TYPE, MEMORY USAGE (with
+ * SAMPLES) and OBJECT FREQ or OBJECT IDLETIME. These commands do not walk a whole key or change its
+ * access time, so a report never blocks Redis and does not disturb the hot key ranking.
+ *
+ * <p>Element counts (HLEN/SCARD/ZCARD/LLEN/STRLEN), the {@code Employee} and {@code EmployeeIds}
+ * sizes and the value sampling (HSCAN, SRANDMEMBER and HGETALL) are normal reads: they reset the
+ * idle time and bump the LFU counter of the keys they read. They therefore run only after the
+ * access statistics of every scanned key were taken, and elements are counted only for big key
+ * candidates (the largest {@code top-keys} by MEMORY USAGE and any key over {@code
+ * big-key-memory}). The few keys read this way look more recently or frequently used in the next
+ * report. Servers that disable MEMORY must count every key to find the big ones; they still get key
+ * and element counts.
+ *
+ * @author Siddhant Patni
+ */
+@Slf4j
+@Service
+public class RedisMemoryInspector {
+
+  static final String KEY_PATTERN = "Employee*";
+
+  static final String GROUP_BLOB_HASH = "blob-hash";
+  static final String GROUP_EMPLOYEE_HASHES = "employee-hashes";
+  static final String GROUP_ID_INDEX = "id-index";
+  static final String GROUP_NAME_INDEX = "name-index";
+  static final String GROUP_DEPARTMENT_INDEX = "department-index";
+  static final String GROUP_VERSIONS = "versions";
+  static final String GROUP_OTHER = "other";
+
+  private static final Comparator<Long> DESCENDING =
+      Comparator.nullsLast(Comparator.<Long>reverseOrder());
+  private static final Comparator<Long> ASCENDING =
+      Comparator.nullsLast(Comparator.<Long>naturalOrder());
+
+  private static final byte[] USAGE = bytes("USAGE");
+  private static final byte[] SAMPLES = bytes("SAMPLES");
+  private static final byte[] FREQ = bytes("FREQ");
+  private static final byte[] IDLETIME = bytes("IDLETIME");
+
+  /** Per-key access statistic available on this server. */
+  enum HotKeySource {
+    LFU_FREQUENCY,
+    IDLE_TIME,
+    UNAVAILABLE;
+
+    String label() {
+      return name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+  }
+
+  /** What the server lets us ask about a key, detected once per report. */
+  record Capabilities(boolean memoryUsage, HotKeySource hotKeySource) {}
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final BlobEmployeeStore blobEmployeeStore;
+  private final FieldHashEmployeeStore fieldHashEmployeeStore;
+  private final RedisSerializer<?> jsonSerializer;
+  private final RedisSerializer<Object> jdkSerializer = new JdkSerializationRedisSerializer();
+  private final RedisMemoryReportProperties properties;
+
+  @Autowired
+  public RedisMemoryInspector(
+      StringRedisTemplate stringRedisTemplate,
+      RedisTemplate<String, Object> redisTemplate,
+      BlobEmployeeStore blobEmployeeStore,
+      FieldHashEmployeeStore fieldHashEmployeeStore,
+      RedisMemoryReportProperties properties) {
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.blobEmployeeStore = blobEmployeeStore;
+    this.fieldHashEmployeeStore = fieldHashEmployeeStore;
+    this.jsonSerializer = redisTemplate.getValueSerializer();
+    this.properties = properties;
+  }
+
+  /** Scans the service's keys and builds the report. */
+  public RedisMemoryReport inspect() {
+    RedisMemoryReport report = new RedisMemoryReport();
+    report.setGeneratedAt(Instant.now());
+    report.setKeyPattern(KEY_PATTERN);
+
+    List<KeySample> samples = new ArrayList<>();
+    Capabilities capabilities = null;
+    ScanOptions options =
+        ScanOptions.scanOptions().match(KEY_PATTERN).count(properties.getScanCount()).build();
+    try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+      List<String> batch = new ArrayList<>(properties.getScanCount());
+      while (samples.size() + batch.size() < properties.getMaxKeys() && cursor.hasNext()) {
+        batch.add(cursor.next());
+        if (batch.size() == properties.getScanCount()) {
+          capabilities = capabilities == null ? detectCapabilities(batch.get(0)) : capabilities;
+          samples.addAll(inspectKeys(batch, capabilities));
+          batch = new ArrayList<>(properties.getScanCount());
+        }
+      }
+      if (!batch.isEmpty()) {
+        capabilities = capabilities == null ? detectCapabilities(batch.get(0)) : capabilities;
+        samples.addAll(inspectKeys(batch, capabilities));
+      }
+      report.setComplete(!cursor.hasNext());
+    }
+    if (capabilities == null) {
+      capabilities = new Capabilities(false, HotKeySource.UNAVAILABLE);
+    }
+
+    // everything below touches keys, so it runs once all access statistics were read
+    countElements(bigKeyCandidates(samples, capabilities));
+    List<Employee> employees = sampleEmployees();
+
+    report.setKeysScanned(samples.size());
+    report.setMemoryUsageSupported(capabilities.memoryUsage());
+    report.setHotKeySource(capabilities.hotKeySource().label());
+    summarizeGroups(report, samples);
+    summarizeEmployeeHashes(report, employees);
+    estimateValueSizes(report, employees);
+    report.setLargestKeys(
+        top(
+            samples,
+            capabilities.memoryUsage()
+                ? Comparator.comparing(KeySample::getMemoryBytes, DESCENDING)
+                : Comparator.comparing(KeySample::getElements, DESCENDING)));
+    report.setHotKeys(hotKeys(samples, capabilities.hotKeySource()));
+
+    log.info(
+        "Redis memory report: {} keys scanned, complete={}", samples.size(), report.isComplete());
+    return report;
+  }
+
+  /** Probes MEMORY USAGE and OBJECT FREQ/IDLETIME once; managed servers often disable them. */
+  Capabilities detectCapabilities(String key) {
+    byte[] raw = bytes(key);
+    boolean memoryUsage = supports(connection -> integerCommand(connection, "MEMORY", USAGE, raw));
+    HotKeySource hotKeySource = HotKeySource.UNAVAILABLE;
+    // OBJECT FREQ only works with an LFU maxmemory-policy and OBJECT IDLETIME only without one
+    if (supports(connection -> integerCommand(connection, "OBJECT", FREQ, raw))) {
+      hotKeySource = HotKeySource.LFU_FREQUENCY;
+    } else if (supports(connection -> integerCommand(connection, "OBJECT", IDLETIME, raw))) {
+      hotKeySource = HotKeySource.IDLE_TIME;
+    }
+    return new Capabilities(memoryUsage, hotKeySource);
+  }
+
+  private boolean supports(RedisCallback<Object> command) {
+    try {
+      stringRedisTemplate.execute(command);
+      return true;
+    } catch (DataAccessException e) {
+      log.debug("Redis command not available: {}", e.getMessage());
+      return false;
+    }
+  }
+
+  /** Inspects one SCAN batch in one pipeline; elements are counted later for big key candidates. */
+  List<KeySample> inspectKeys(List<String> keys, Capabilities capabilities) {
+    byte[] samples = bytes(Integer.toString(properties.getMemorySamples()));
+    List<Object> details =
+        stringRedisTemplate.executePipelined(
+            (RedisCallback<Object>)
+                connection -> {
+                  for (String key : keys) {
+                    byte[] raw = bytes(key);
+                    connection.keyCommands().type(raw);
+                    if (capabilities.memoryUsage()) {
+                      integerCommand(connection, "MEMORY", USAGE, raw, SAMPLES, samples);
+                    }
+                    switch (capabilities.hotKeySource()) {
+                      case LFU_FREQUENCY -> integerCommand(connection, "OBJECT", FREQ, raw);
+                      case IDLE_TIME -> integerCommand(connection, "OBJECT", IDLETIME, raw);
+                      default -> {
+                        // no access statistics on this server
+                      }
+                    }
+                  }
+                  return null;
+                });
+
+    int stride =
+        1
+            + (capabilities.memoryUsage() ? 1 : 0)
+            + (capabilities.hotKeySource() == HotKeySource.UNAVAILABLE ? 0 : 1);
+    List<KeySample> result = new ArrayList<>(keys.size());
+    for (int i = 0; i < keys.size(); i++) {
+      int offset = i * stride;
+      Object type = details.get(offset++);
+      Long memoryBytes = capabilities.memoryUsage() ? asLong(details.get(offset++)) : null;
+      Long access =
+          capabilities.hotKeySource() == HotKeySource.UNAVAILABLE
+              ? null
+              : asLong(details.get(offset));
+      result.add(
+          new KeySample(
+              keys.get(i),
+              (type instanceof DataType dataType ? dataType : DataType.NONE).code(),
+              null,
+              memoryBytes,
+              capabilities.hotKeySource() == HotKeySource.LFU_FREQUENCY ? access : null,
+              capabilities.hotKeySource() == HotKeySource.IDLE_TIME ? access : null,
+              memoryBytes != null && memoryBytes >= properties.getBigKeyMemory().toBytes()));
+    }
+    return result;
+  }
+
+  /**
+   * Keys whose elements are worth counting: the largest {@code top-keys} by MEMORY USAGE plus any
+   * other key over {@code big-key-memory}. Without MEMORY USAGE the count is the only size signal,
+   * so every key is a candidate.
+   */
+  List<KeySample> bigKeyCandidates(List<KeySample> samples, Capabilities capabilities) {
+    if (!capabilities.memoryUsage()) {
+      return samples;
+    }
+    List<KeySample> bySize =
+        samples.stream()
+            .sorted(Comparator.comparing(KeySample::getMemoryBytes, DESCENDING))
+            .toList();
+    int end = Math.min(properties.getTopKeys(), bySize.size());
+    while (end < bySize.size() && bySize.get(end).isBig()) {
+      end++;
+    }
+    return bySize.subList(0, end);
+  }
+
+  /** Counts elements in pipelines of {@code scan-count} keys and flags keys with too many. */
+  private void countElements(List<KeySample> candidates) {
+    for (int from = 0; from < candidates.size(); from += properties.getScanCount()) {
+      List<KeySample> batch =
+          candidates.subList(from, Math.min(candidates.size(), from + properties.getScanCount()));
+      List<Object> counts =
+          stringRedisTemplate.executePipelined(
+              (RedisCallback<Object>)
+                  connection -> {
+                    for (KeySample sample : batch) {
+                      countElements(
+                          connection, bytes(sample.getKey()), DataType.fromCode(sample.getType()));
+                    }
+                    return null;
+                  });
+      for (int i = 0; i < batch.size(); i++) {
+        KeySample sample = batch.get(i);
+        long elements = "none".equals(sample.getType()) ? 0 : orZero(asLong(counts.get(i)));
+        sample.setElements(elements);
+        sample.setBig(sample.isBig() || elements >= properties.getBigKeyElements());
+      }
+    }
+  }
+
+  /**
+   * Runs a command with an integer reply. Spring Data Redis has no MEMORY USAGE or OBJECT FREQ API
+   * and decodes unknown raw commands as bulk strings, so the Lettuce connection is told the reply
+   * type explicitly. Works inside pipelines.
+   */
+  private static Object integerCommand(RedisConnection connection, String command, byte[]... args) {
+    RedisConnection target =
+        connection instanceof DecoratedRedisConnection decorated
+            ? decorated.getDelegate()
+            : connection;
+    if (target instanceof LettuceConnection lettuce) {
+      return lettuce.execute(command, new IntegerOutput<>(ByteArrayCodec.INSTANCE), args);
+    }
+    return connection.execute(command, args);
+  }
+
+  /** Queues the element count command matching the key type; every key queues exactly one. */
+  private static void countElements(RedisConnection connection, byte[] key, DataType type) {
+    switch (type) {
+      case HASH -> connection.hashCommands().hLen(key);
+      case SET -> connection.setCommands().sCard(key);
+      case ZSET -> connection.zSetCommands().zCard(key);
+      case LIST -> connection.listCommands().lLen(key);
+      case STRING -> connection.stringCommands().strLen(key);
+      default -> connection.keyCommands().exists(key);
+    }
+  }
+
+  private void summarizeGroups(RedisMemoryReport report, List<KeySample> samples) {
+    for (KeySample sample : samples) {
+      KeyGroup group =
+          report.getGroups().computeIfAbsent(groupOf(sample.getKey()), k -> new KeyGroup());
+      group.setKeys(group.getKeys() + 1);
+      // a total is only reported when every key of the group was counted
+      if (group.getKeys() == 1 || group.getElements() == null || sample.getElements() == null) {
+        group.setElements(group.getKeys() == 1 ? sample.getElements() : null);
+      } else {
+        group.setElements(group.getElements() + sample.getElements());
+      }
+      if (sample.getMemoryBytes() != null) {
+        group.setMemoryBytes(orZero(group.getMemoryBytes()) + sample.getMemoryBytes());
+      }
+    }
+    report
+        .getGroups()
+        .values()
+        .forEach(
+            group -> {
+              if (group.getMemoryBytes() != null) {
+                group.setAverageMemoryBytes(group.getMemoryBytes() / group.getKeys());
+              }
+            });
+  }
+
+  private void summarizeEmployeeHashes(RedisMemoryReport report, List<Employee> employees) {
+    RedisMemoryReport.EmployeeHashes hashes = report.getEmployeeHashes();
+    hashes.setBlobHashFields(
+        orZero(stringRedisTemplate.opsForHash().size(AppConstants.EMPLOYEE_HASH_KEY)));
+    hashes.setFieldHashes(
+        orZero(stringRedisTemplate.opsForSet().size(AppConstants.EMPLOYEE_ID_INDEX_KEY)));
+
+    KeyGroup scanned = report.getGroups().get(GROUP_EMPLOYEE_HASHES);
+    if (scanned != null) {
+      if (scanned.getElements() != null) {
+        hashes.setAverageFieldsPerHash((double) scanned.getElements() / scanned.getKeys());
+      } else if (!employees.isEmpty()) {
+        hashes.setAverageFieldsPerHash(
+            average(employees, employee -> EmployeeField.toHash(employee).size()));
+      }
+      if (scanned.getAverageMemoryBytes() != null) {
+        hashes.setEstimatedFieldHashMemoryBytes(
+            scanned.getAverageMemoryBytes() * hashes.getFieldHashes());
+      }
+    }
+  }
+
+  /** Reads up to {@code value-samples} employees from the blob hash, then the field hashes. */
+  private List<Employee> sampleEmployees() {
+    List<Employee> employees =
+        new ArrayList<>(blobEmployeeStore.sample(properties.getValueSamples()));
+    if (employees.size() < properties.getValueSamples()) {
+      employees.addAll(
+          fieldHashEmployeeStore.sample(properties.getValueSamples() - employees.size()));
+    }
+    return employees;
+  }
+
+  /** Encodes sampled employees with the blob (JDK), JSON and field-per-hash encodings. */
+  private void estimateValueSizes(RedisMemoryReport report, List<Employee> employees) {
+    report.setValuesSampled(employees.size());
+    if (employees.isEmpty()) {
+      return;
+    }
+    Map<String, Double> sizes = report.getAverageEncodedValueBytes();
+    sizes.put("jdk", average(employees, employee -> jdkSerializer.serialize(employee).length));
+    sizes.put("json", average(employees, employee -> serializeJson(employee).length));
+    sizes.put("field-hash", average(employees, RedisMemoryInspector::fieldHashBytes));
+  }
+
+  @SuppressWarnings("unchecked")
+  private byte[] serializeJson(Employee employee) {
+    return ((RedisSerializer<Object>) jsonSerializer).serialize(employee);
+  }
+
+  /** Bytes of all field names and values of an {@code Employee:<id>} hash. */
+  static long fieldHashBytes(Employee employee) {
+    long total = 0;
+    for (Map.Entry<String, String> field : EmployeeField.toHash(employee).entrySet()) {
+      total += bytes(field.getKey()).length + bytes(field.getValue()).length;
+    }
+    return total;
+  }
+
+  private List<KeySample> hotKeys(List<KeySample> samples, HotKeySource source) {
+    return switch (source) {
+      case LFU_FREQUENCY -> top(samples, Comparator.comparing(KeySample::getFrequency, DESCENDING));
+      case IDLE_TIME -> top(samples, Comparator.comparing(KeySample::getIdleSeconds, ASCENDING));
+      case UNAVAILABLE -> List.of();
+    };
+  }
+
+  private List<KeySample> top(List<KeySample> samples, Comparator<KeySample> order) {
+    return samples.stream().sorted(order).limit(properties.getTopKeys()).toList();
+  }
+
+  static String groupOf(String key) {
+    if (AppConstants.EMPLOYEE_HASH_KEY.equals(key)) {
+      return GROUP_BLOB_HASH;
+    }
+    if (AppConstants.EMPLOYEE_ID_INDEX_KEY.equals(key)) {
+      return GROUP_ID_INDEX;
+    }
+    if (AppConstants.EMPLOYEE_VERSION_KEY.equals(key)) {
+      return GROUP_VERSIONS;
+    }
+    if (key.startsWith(AppConstants.EMPLOYEE_NAME_INDEX_KEY)) {
+      return GROUP_NAME_INDEX;
+    }
+    if (key.startsWith(AppConstants.EMPLOYEE_DEPARTMENT_KEY)) {
+      return GROUP_DEPARTMENT_INDEX;
+    }
+    if (key.startsWith(AppConstants.EMPLOYEE_KEY_PREFIX)) {
+      return GROUP_EMPLOYEE_HASHES;
+    }
+    return GROUP_OTHER;
+  }
+
+  private static double average(List<Employee> employees, ToLongFunction<Employee> size) {
+    double average = employees.stream().mapToLong(size).average().orElse(0);
+    return Math.round(average * 10) / 10.0;
+  }
+
+  private static Long asLong(Object value) {
+    return value instanceof Number number ? number.longValue() : null;
+  }
+
+  private static long orZero(Long value) {
+    return value == null ? 0 : value;
+  }
+
+  private static byte[] bytes(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+}
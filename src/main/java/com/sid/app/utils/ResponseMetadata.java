@@ -0,0 +1,69 @@
+package com.sid.app.utils;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.time.Duration;
+import java.time.Instant;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Records per-request facts about how a response was produced, such as being served from the local
+ * snapshot or a write being queued, so the web layer can expose them as headers. Calls made outside
+ * a web request are ignored.
+ *
+ * @author Siddhant Patni
+ */
+public final class ResponseMetadata {
+
+  public static final String STALE_SINCE_ATTRIBUTE =
+      ResponseMetadata.class.getName() + ".staleSince";
+  public static final String WRITE_QUEUED_ATTRIBUTE =
+      ResponseMetadata.class.getName() + ".writeQueued";
+
+  public static final String REDIS_NANOS_ATTRIBUTE =
+      ResponseMetadata.class.getName() + ".redisNanos";
+
+  private ResponseMetadata() {}
+
+  /** Marks the current response as served from data captured at the given instant. */
+  public static void markStale(Instant capturedAt) {
+    RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+    if (attributes == null) {
+      return;
+    }
+    Object previous =
+        attributes.getAttribute(STALE_SINCE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    if (previous instanceof Instant earlier && earlier.isBefore(capturedAt)) {
+      return;
+    }
+    attributes.setAttribute(STALE_SINCE_ATTRIBUTE, capturedAt, RequestAttributes.SCOPE_REQUEST);
+  }
+
+  /** Marks the current request's write as queued rather than applied. */
+  public static void markWriteQueued() {
+    RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+    if (attributes != null) {
+      attributes.setAttribute(
+          WRITE_QUEUED_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+    }
+  }
+
+  /** Adds time spent in a Redis call to the current request. */
+  public static void addRedisTime(long nanos) {
+    RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+    if (attributes == null) {
+      return;
+    }
+    Object previous =
+        attributes.getAttribute(REDIS_NANOS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    long total = previous instanceof Long earlier ? earlier + nanos : nanos;
+    attributes.setAttribute(REDIS_NANOS_ATTRIBUTE, total, RequestAttributes.SCOPE_REQUEST);
+  }
+
+  /** Returns the total time the given request spent in Redis calls. */
+  public static Duration redisTime(HttpServletRequest request) {
+    return request.getAttribute(REDIS_NANOS_ATTRIBUTE) instanceof Long nanos
+        ? Duration.ofNanos(nanos)
+        : Duration.ZERO;
+  }
+}
@@ -0,0 +1,59 @@
+-- Conditional upserts into the blob layout together with their name index moves, applied
+-- atomically. Nothing is written unless every employee is still stored as the caller read it: same
+-- version and same existence. Otherwise the reply is empty and the caller re-reads and retries, so
+-- index entries are never moved away from a stale name.
+-- KEYS[1]: Employee hash, KEYS[2]: EmployeeVersions hash, KEYS[3..]: one key per index write, in
+-- item order.
+-- ARGV: (id, encoded hash field, expected version, encoded employee, read version, '1' if read as
+-- existing, number of index writes, (command, member) per index write) per item. An empty expected
+-- version means insert only if absent; an empty read version means the item is not checked.
+-- Returns (outcome, version) per item, or an empty list if an employee changed since it was read.
+local items = {}
+local arg, key = 1, 3
+while arg <= #ARGV do
+  local item = {id = ARGV[arg], field = ARGV[arg + 1], expected = ARGV[arg + 2],
+    value = ARGV[arg + 3], writes = {}}
+  local read, existed, count = ARGV[arg + 4], ARGV[arg + 5], tonumber(ARGV[arg + 6])
+  arg = arg + 7
+  for w = 1, count do
+    item.writes[w] = {ARGV[arg], KEYS[key], ARGV[arg + 1]}
+    arg, key = arg + 2, key + 1
+  end
+  if read ~= '' then
+    local version = tonumber(redis.call('HGET', KEYS[2], item.id) or '0')
+    local exists = redis.call('HEXISTS', KEYS[1], item.field) == 1
+    if tonumber(read) ~= version or exists ~= (existed == '1') then
+      return {}
+    end
+  end
+  items[#items + 1] = item
+end
+local result = {}
+for _, item in ipairs(items) do
+  local exists = redis.call('HEXISTS', KEYS[1], item.field) == 1
+  local version = tonumber(redis.call('HGET', KEYS[2], item.id) or '0')
+  local outcome
+  if item.expected == '' then
+    outcome = exists and 'ALREADY_EXISTS' or 'INSERTED'
+  elseif not exists then
+    outcome = 'NOT_FOUND'
+  elseif tonumber(item.expected) ~= version then
+    outcome = 'VERSION_CONFLICT'
+  else
+    outcome = 'UPDATED'
+  end
+  if outcome == 'INSERTED' or outcome == 'UPDATED' then
+    redis.call('HSET', KEYS[1], item.field, item.value)
+    version = redis.call('HINCRBY', KEYS[2], item.id, 1)
+    for _, write in ipairs(item.writes) do
+      if write[1] == 'ZADD' then
+        redis.call('ZADD', write[2], 0, write[3])
+      else
+        redis.call(write[1], write[2], write[3])
+      end
+    end
+  end
+  result[#result + 1] = outcome
+  result[#result + 1] = version
+end
+return result
@@ -0,0 +1,46 @@
+-- Deletes employees from the field-per-hash layout together with their name index entries, applied
+-- atomically. Nothing is written unless every employee is still stored as the caller read it: same
+-- version and same existence. Otherwise the reply is empty and the caller re-reads and retries, so
+-- index entries of a re-created employee are never removed. Versions are kept so that a re-created
+-- employee never reuses an old version. A department delete passes the department's ID set, and
+-- only employees still listed in it are deleted; the others moved away and are left alone.
+-- KEYS[1]: EmployeeIds set, KEYS[2]: EmployeeVersions hash, KEYS[3]: department ID set if scoped,
+-- then per item its Employee:<id> hash followed by one key per index write.
+-- ARGV[1]: '1' if scoped to a department, then (id, read version, '1' if read as existing, number
+-- of index writes, (command, member) per index write) per item.
+-- Returns (outcome, version) per item, or an empty list if an employee changed since it was read.
+local items = {}
+local scoped = ARGV[1] == '1'
+local arg, key = 2, scoped and 4 or 3
+while arg <= #ARGV do
+  local item = {key = KEYS[key], id = ARGV[arg], writes = {}}
+  local read, existed, count = ARGV[arg + 1], ARGV[arg + 2], tonumber(ARGV[arg + 3])
+  arg, key = arg + 4, key + 1
+  for w = 1, count do
+    item.writes[w] = {ARGV[arg], KEYS[key], ARGV[arg + 1]}
+    arg, key = arg + 2, key + 1
+  end
+  local version = tonumber(redis.call('HGET', KEYS[2], item.id) or '0')
+  local exists = redis.call('EXISTS', item.key) == 1
+  if tonumber(read) ~= version or exists ~= (existed == '1') then
+    return {}
+  end
+  items[#items + 1] = item
+end
+local result = {}
+for _, item in ipairs(items) do
+  local outcome = 'NOT_FOUND'
+  -- SREM both checks the department and drops IDs left behind without an employee
+  if not scoped or redis.call('SREM', KEYS[3], item.id) == 1 then
+    redis.call('SREM', KEYS[1], item.id)
+    if redis.call('DEL', item.key) == 1 then
+      outcome = 'DELETED'
+      for _, write in ipairs(item.writes) do
+        redis.call(write[1], write[2], write[3])
+      end
+    end
+  end
+  result[#result + 1] = outcome
+  result[#result + 1] = tonumber(redis.call('HGET', KEYS[2], item.id) or '0')
+end
+return result
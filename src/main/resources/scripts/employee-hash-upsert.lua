@@ -0,0 +1,66 @@
+-- Conditional upserts into the field-per-hash layout together with their name index moves, applied
+-- atomically. Nothing is written unless every employee is still stored as the caller read it: same
+-- version and same existence. Otherwise the reply is empty and the caller re-reads and retries, so
+-- index entries are never moved away from a stale name.
+-- KEYS[1]: EmployeeIds set, KEYS[2]: EmployeeVersions hash, then per item its Employee:<id> hash
+-- followed by one key per index write.
+-- ARGV: (id, expected version, field count, field/value pairs..., read version, '1' if read as
+-- existing, number of index writes, (command, member) per index write) per item. An empty expected
+-- version means insert only if absent; an empty read version means the item is not checked.
+-- Returns (outcome, version) per item, or an empty list if an employee changed since it was read.
+local items = {}
+local arg, key = 1, 3
+while arg <= #ARGV do
+  local item = {key = KEYS[key], id = ARGV[arg], expected = ARGV[arg + 1], fields = {}, writes = {}}
+  local count = tonumber(ARGV[arg + 2])
+  for j = arg + 3, arg + 2 + count * 2 do
+    item.fields[#item.fields + 1] = ARGV[j]
+  end
+  arg, key = arg + 3 + count * 2, key + 1
+  local read, existed = ARGV[arg], ARGV[arg + 1]
+  count = tonumber(ARGV[arg + 2])
+  arg = arg + 3
+  for w = 1, count do
+    item.writes[w] = {ARGV[arg], KEYS[key], ARGV[arg + 1]}
+    arg, key = arg + 2, key + 1
+  end
+  if read ~= '' then
+    local version = tonumber(redis.call('HGET', KEYS[2], item.id) or '0')
+    local exists = redis.call('EXISTS', item.key) == 1
+    if tonumber(read) ~= version or exists ~= (existed == '1') then
+      return {}
+    end
+  end
+  items[#items + 1] = item
+end
+local result = {}
+for _, item in ipairs(items) do
+  local exists = redis.call('EXISTS', item.key) == 1
+  local version = tonumber(redis.call('HGET', KEYS[2], item.id) or '0')
+  local outcome
+  if item.expected == '' then
+    outcome = exists and 'ALREADY_EXISTS' or 'INSERTED'
+  elseif not exists then
+    outcome = 'NOT_FOUND'
+  elseif tonumber(item.expected) ~= version then
+    outcome = 'VERSION_CONFLICT'
+  else
+    outcome = 'UPDATED'
+  end
+  if outcome == 'INSERTED' or outcome == 'UPDATED' then
+    redis.call('DEL', item.key)
+    redis.call('HSET', item.key, unpack(item.fields))
+    redis.call('SADD', KEYS[1], item.id)
+    version = redis.call('HINCRBY', KEYS[2], item.id, 1)
+    for _, write in ipairs(item.writes) do
+      if write[1] == 'ZADD' then
+        redis.call('ZADD', write[2], 0, write[3])
+      else
+        redis.call(write[1], write[2], write[3])
+      end
+    end
+  end
+  result[#result + 1] = outcome
+  result[#result + 1] = version
+end
+return result
@@ -0,0 +1,39 @@
+package com.sid.app.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.lettuce.core.protocol.CommandType;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RedisCommandBudgetsTest {
+
+  private final RedisCommandBudgets budgets = new RedisCommandBudgets(properties());
+
+  private static RedisResilienceProperties properties() {
+    RedisResilienceProperties properties = new RedisResilienceProperties();
+    properties.setReadTimeout(Duration.ofMillis(100));
+    properties.setBulkTimeout(Duration.ofMillis(900));
+    properties.setWriteTimeout(Duration.ofMillis(300));
+    return properties;
+  }
+
+  @Test
+  @DisplayName("Should apply the budget matching each command type")
+  void testBudgetFor() {
+    assertEquals(Duration.ofMillis(100), budgets.budgetFor(CommandType.HMGET));
+    assertEquals(Duration.ofMillis(100), budgets.budgetFor(CommandType.ZRANGEBYLEX));
+    assertEquals(Duration.ofMillis(100), budgets.budgetFor(CommandType.MEMORY));
+    assertEquals(Duration.ofMillis(900), budgets.budgetFor(CommandType.HVALS));
+    assertEquals(Duration.ofMillis(900), budgets.budgetFor(CommandType.SCAN));
+    assertEquals(Duration.ofMillis(300), budgets.budgetFor(CommandType.HSET));
+    assertEquals(Duration.ofMillis(300), budgets.budgetFor(CommandType.EXEC));
+  }
+
+  @Test
+  @DisplayName("Should use the largest budget as the overall command timeout")
+  void testMaxBudget() {
+    assertEquals(Duration.ofMillis(900), budgets.maxBudget());
+  }
+}
@@ -3,23 +3,35 @@ package com.sid.app.controller;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sid.app.constants.AppConstants;
 import com.sid.app.exception.ExceptionHandler;
+import com.sid.app.exception.InvalidBatchException;
+import com.sid.app.exception.InvalidFieldException;
 import com.sid.app.exception.UserNotFoundException;
+import com.sid.app.model.BatchOutcome;
 import com.sid.app.model.Employee;
+import com.sid.app.model.EmployeeBatchResult;
+import com.sid.app.model.EmployeeSuggestion;
+import com.sid.app.model.EmployeeUpsert;
 import com.sid.app.service.EmployeeService;
+import com.sid.app.utils.ResponseMetadata;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -54,7 +66,7 @@ public class EmployeeControllerTest {
   void setup() {
     mockMvc =
         MockMvcBuilders.standaloneSetup(employeeController)
-            .setControllerAdvice(new ExceptionHandler())
+            .setControllerAdvice(new ExceptionHandler(), new ResponseMetadataAdvice())
             .build();
 
     employee1 = new Employee();
@@ -199,4 +211,187 @@ public class EmployeeControllerTest {
         .andExpect(status().isNotFound())
         .andExpect(jsonPath("$.errorMessage", is("Could not found the user with id 999")));
   }
+
+  @Test
+  @DisplayName("Get employee fields by ID successfully")
+  void testGetEmployeeFieldsById_Found() throws Exception {
+    when(employeeService.getEmployeeFieldsById("1", List.of("name", "salary")))
+        .thenReturn(Map.of("name", "John Doe", "salary", 50000.0));
+
+    mockMvc
+        .perform(
+            get(AppConstants.EMPLOYEE_ENDPOINT + "/{id}", "1")
+                .param("fields", "name,salary")
+                .accept(MediaType.APPLICATION_JSON))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.name", is("John Doe")))
+        .andExpect(jsonPath("$.salary", is(50000.0)))
+        .andExpect(jsonPath("$.id").doesNotExist());
+  }
+
+  @Test
+  @DisplayName("Get employee fields with unknown field is rejected")
+  void testGetEmployeeFieldsById_InvalidField() throws Exception {
+    when(employeeService.getEmployeeFieldsById("1", List.of("address")))
+        .thenThrow(new InvalidFieldException("address"));
+
+    mockMvc
+        .perform(
+            get(AppConstants.EMPLOYEE_ENDPOINT + "/{id}", "1")
+                .param("fields", "address")
+                .accept(MediaType.APPLICATION_JSON))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.errorMessage", is("Unknown or empty employee field 'address'")));
+  }
+
+  @Test
+  @DisplayName("Get fields of all employees successfully")
+  void testGetAllEmployeeFields() throws Exception {
+    when(employeeService.getAllEmployeeFields(List.of("name")))
+        .thenReturn(List.of(Map.of("name", "John Doe"), Map.of("name", "Jane Smith")));
+
+    mockMvc
+        .perform(
+            get(AppConstants.EMPLOYEE_ENDPOINT)
+                .param("fields", "name")
+                .accept(MediaType.APPLICATION_JSON))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$", hasSize(2)))
+        .andExpect(jsonPath("$[1].name", is("Jane Smith")));
+    verify(employeeService).getAllEmployeeFields(List.of("name"));
+  }
+
+  @Test
+  @DisplayName("Autocomplete employee names by prefix")
+  void testAutocompleteEmployees() throws Exception {
+    when(employeeService.autocomplete("jo", "IT", 5))
+        .thenReturn(List.of(new EmployeeSuggestion("1", "John Doe")));
+
+    mockMvc
+        .perform(
+            get(AppConstants.EMPLOYEE_AUTOCOMPLETE_ENDPOINT)
+                .param("prefix", "jo")
+                .param("department", "IT")
+                .param("limit", "5")
+                .accept(MediaType.APPLICATION_JSON))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$", hasSize(1)))
+        .andExpect(jsonPath("$[0].id", is("1")))
+        .andExpect(jsonPath("$[0].name", is("John Doe")));
+  }
+
+  @Test
+  @DisplayName("Get employee served from snapshot reports staleness")
+  void testGetEmployeeById_Stale() throws Exception {
+    doAnswer(
+            invocation -> {
+              ResponseMetadata.markStale(Instant.now().minusSeconds(30));
+              return employee1;
+            })
+        .when(employeeService)
+        .getEmployeeById("1");
+
+    mockMvc
+        .perform(
+            get(AppConstants.EMPLOYEE_ENDPOINT + "/{id}", "1").accept(MediaType.APPLICATION_JSON))
+        .andExpect(status().isOk())
+        .andExpect(header().string(ResponseMetadataAdvice.STALENESS_HEADER, "30"))
+        .andExpect(jsonPath("$.id", is(employee1.getId())));
+  }
+
+  @Test
+  @DisplayName("Queued delete is accepted")
+  void testDeleteEmployee_Queued() throws Exception {
+    doAnswer(
+            invocation -> {
+              ResponseMetadata.markWriteQueued();
+              return "Employee removed!!";
+            })
+        .when(employeeService)
+        .deleteEmployee("1");
+
+    mockMvc
+        .perform(
+            delete(AppConstants.EMPLOYEE_ENDPOINT + "/{id}", "1")
+                .accept(MediaType.APPLICATION_JSON))
+        .andExpect(status().isAccepted())
+        .andExpect(header().string(ResponseMetadataAdvice.WRITE_QUEUED_HEADER, "true"));
+  }
+
+  @Test
+  @DisplayName("Batch upsert reports the outcome of every item")
+  void testUpsertEmployees() throws Exception {
+    List<EmployeeUpsert> upserts =
+        List.of(new EmployeeUpsert(employee1, null), new EmployeeUpsert(employee2, 3L));
+    when(employeeService.upsertEmployees(upserts))
+        .thenReturn(
+            List.of(
+                new EmployeeBatchResult("1", BatchOutcome.INSERTED, 1),
+                new EmployeeBatchResult("2", BatchOutcome.VERSION_CONFLICT, 4)));
+
+    mockMvc
+        .perform(
+            post(AppConstants.EMPLOYEE_BATCH_UPSERT_ENDPOINT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(upserts))
+                .accept(MediaType.APPLICATION_JSON))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$", hasSize(2)))
+        .andExpect(jsonPath("$[0].outcome", is("INSERTED")))
+        .andExpect(jsonPath("$[1].outcome", is("VERSION_CONFLICT")))
+        .andExpect(jsonPath("$[1].version", is(4)));
+  }
+
+  @Test
+  @DisplayName("Batch delete reports the outcome of every ID")
+  void testDeleteEmployees() throws Exception {
+    when(employeeService.deleteEmployees(List.of("1", "9")))
+        .thenReturn(
+            List.of(
+                new EmployeeBatchResult("1", BatchOutcome.DELETED, 2),
+                new EmployeeBatchResult("9", BatchOutcome.NOT_FOUND, 0)));
+
+    mockMvc
+        .perform(
+            post(AppConstants.EMPLOYEE_BATCH_DELETE_ENDPOINT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[\"1\",\"9\"]")
+                .accept(MediaType.APPLICATION_JSON))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[0].outcome", is("DELETED")))
+        .andExpect(jsonPath("$[1].id", is("9")))
+        .andExpect(jsonPath("$[1].outcome", is("NOT_FOUND")));
+  }
+
+  @Test
+  @DisplayName("Oversized batch is rejected")
+  void testDeleteEmployees_InvalidBatch() throws Exception {
+    when(employeeService.deleteEmployees(List.of()))
+        .thenThrow(new InvalidBatchException("A batch must contain between 1 and 1000 items"));
+
+    mockMvc
+        .perform(
+            post(AppConstants.EMPLOYEE_BATCH_DELETE_ENDPOINT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[]")
+                .accept(MediaType.APPLICATION_JSON))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.errorMessage", is("A batch must contain between 1 and 1000 items")));
+  }
+
+  @Test
+  @DisplayName("Delete employees of a department")
+  void testDeleteEmployeesByDepartment() throws Exception {
+    when(employeeService.deleteEmployeesByDepartment("IT"))
+        .thenReturn(List.of(new EmployeeBatchResult("1", BatchOutcome.DELETED, 1)));
+
+    mockMvc
+        .perform(
+            delete(AppConstants.EMPLOYEE_ENDPOINT)
+                .param("department", "IT")
+                .accept(MediaType.APPLICATION_JSON))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$", hasSize(1)))
+        .andExpect(jsonPath("$[0].id", is("1")));
+  }
 }
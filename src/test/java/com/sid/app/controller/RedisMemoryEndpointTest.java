@@ -0,0 +1,30 @@
+package com.sid.app.controller;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.when;
+
+import com.sid.app.model.RedisMemoryReport;
+import com.sid.app.service.RedisMemoryInspector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class RedisMemoryEndpointTest {
+
+  @Mock private RedisMemoryInspector redisMemoryInspector;
+
+  @InjectMocks private RedisMemoryEndpoint redisMemoryEndpoint;
+
+  @Test
+  @DisplayName("Read operation returns the inspector's report")
+  void testReport() {
+    RedisMemoryReport report = new RedisMemoryReport();
+    when(redisMemoryInspector.inspect()).thenReturn(report);
+
+    assertSame(report, redisMemoryEndpoint.report());
+  }
+}
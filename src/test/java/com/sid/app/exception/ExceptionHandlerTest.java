@@ -6,6 +6,7 @@ import java.util.Map;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
 class ExceptionHandlerTest {
@@ -47,4 +48,41 @@ class ExceptionHandlerTest {
     assertEquals(
         HttpStatus.NOT_FOUND, responseStatus.value(), "HTTP status should be NOT_FOUND (404)");
   }
+
+  @Test
+  @DisplayName("Should return error message map when InvalidFieldException is thrown")
+  void testInvalidFieldHandler_ReturnsErrorMessage() {
+    Map<String, String> response =
+        exceptionHandler.invalidFieldHandler(new InvalidFieldException("address"));
+
+    assertEquals("Unknown or empty employee field 'address'", response.get("errorMessage"));
+  }
+
+  @Test
+  @DisplayName("Should return error message and Retry-After when Redis is unavailable")
+  void testRedisUnavailableHandler() {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    Map<String, String> body =
+        exceptionHandler.redisUnavailableHandler(
+            new RedisUnavailableException("getEmployeeById", 10, null), response);
+
+    assertEquals(
+        "Employee store is temporarily unavailable for getEmployeeById", body.get("errorMessage"));
+    assertEquals("10", response.getHeader("Retry-After"));
+  }
+
+  @Test
+  @DisplayName("Should return error message and Retry-After when a request is shed")
+  void testConcurrencyLimitHandler() {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    Map<String, String> body =
+        exceptionHandler.concurrencyLimitHandler(
+            new ConcurrencyLimitExceededException("bulk", 8), response);
+
+    assertEquals(
+        "Too many concurrent bulk requests (limit 8), retry shortly", body.get("errorMessage"));
+    assertEquals("1", response.getHeader("Retry-After"));
+  }
 }
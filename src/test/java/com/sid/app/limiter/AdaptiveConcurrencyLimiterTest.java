@@ -0,0 +1,86 @@
+package com.sid.app.limiter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sid.app.config.ConcurrencyLimitProperties.Budget;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimiterTest {
+
+  private static final Duration FAST = Duration.ofMillis(5);
+  private static final Duration SLOW = Duration.ofMillis(500);
+
+  private final AdaptiveConcurrencyLimiter limiter =
+      new AdaptiveConcurrencyLimiter(
+          new Budget(4, 2, 6, Duration.ofMillis(100), Duration.ofMillis(50)), 0.5);
+
+  @Test
+  @DisplayName("Should shed requests beyond the current limit")
+  void testTryAcquire_RejectsAboveLimit() {
+    for (int i = 0; i < 4; i++) {
+      assertTrue(limiter.tryAcquire());
+    }
+
+    assertFalse(limiter.tryAcquire());
+    assertEquals(1, limiter.getRejected());
+    assertEquals(4, limiter.getInFlight());
+  }
+
+  @Test
+  @DisplayName("Should grow the limit additively up to the maximum when requests are fast")
+  void testRelease_AdditiveIncrease() {
+    for (int i = 0; i < 5; i++) {
+      for (int j = 0; j < 3; j++) {
+        limiter.tryAcquire();
+      }
+      for (int j = 0; j < 3; j++) {
+        limiter.release(FAST, FAST.dividedBy(5), false);
+      }
+    }
+
+    assertEquals(6, limiter.getLimit());
+    assertEquals(0, limiter.getInFlight());
+  }
+
+  @Test
+  @DisplayName("Should not grow the limit while it is mostly unused")
+  void testRelease_NoIncreaseWhenIdle() {
+    limiter.tryAcquire();
+    limiter.release(FAST, Duration.ZERO, false);
+
+    assertEquals(4, limiter.getLimit());
+  }
+
+  @Test
+  @DisplayName("Should shrink the limit multiplicatively on slow, Redis-slow or failed requests")
+  void testRelease_MultiplicativeDecrease() {
+    limiter.tryAcquire();
+    limiter.release(SLOW, Duration.ZERO, false);
+    assertEquals(2, limiter.getLimit());
+
+    AdaptiveConcurrencyLimiter redisBound =
+        new AdaptiveConcurrencyLimiter(
+            new Budget(4, 1, 6, Duration.ofMillis(100), Duration.ofMillis(50)), 0.5);
+    redisBound.tryAcquire();
+    redisBound.release(Duration.ofMillis(80), Duration.ofMillis(70), false);
+    assertEquals(2, redisBound.getLimit());
+    redisBound.tryAcquire();
+    redisBound.release(FAST, Duration.ZERO, true);
+    assertEquals(1, redisBound.getLimit());
+  }
+
+  @Test
+  @DisplayName("Should never shrink below the minimum limit")
+  void testRelease_MinimumLimit() {
+    for (int i = 0; i < 5; i++) {
+      limiter.tryAcquire();
+      limiter.release(SLOW, Duration.ZERO, true);
+    }
+
+    assertEquals(2, limiter.getLimit());
+  }
+}
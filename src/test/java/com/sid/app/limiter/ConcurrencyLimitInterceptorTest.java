@@ -0,0 +1,111 @@
+package com.sid.app.limiter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sid.app.config.ConcurrencyLimitProperties;
+import com.sid.app.exception.ConcurrencyLimitExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.Method;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+class ConcurrencyLimitInterceptorTest {
+
+  static class Handlers {
+    public void point() {}
+
+    @ConcurrencyBudget(ConcurrencyBudget.Type.BULK)
+    public void bulk() {}
+  }
+
+  private SimpleMeterRegistry meterRegistry;
+
+  private ConcurrencyLimiters limiters;
+
+  private ConcurrencyLimitInterceptor interceptor;
+
+  private ConcurrencyLimitProperties properties;
+
+  @BeforeEach
+  void setUp() {
+    properties = new ConcurrencyLimitProperties();
+    properties.getBulk().setInitialLimit(1);
+    meterRegistry = new SimpleMeterRegistry();
+    limiters = new ConcurrencyLimiters(properties, meterRegistry);
+    interceptor = new ConcurrencyLimitInterceptor(limiters, properties);
+  }
+
+  private static HandlerMethod handler(String name) throws NoSuchMethodException {
+    Method method = Handlers.class.getMethod(name);
+    return new HandlerMethod(new Handlers(), method);
+  }
+
+  @Test
+  @DisplayName("Should admit and release requests through the budget of the handler")
+  void testAdmitAndRelease() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    assertTrue(interceptor.preHandle(request, response, handler("bulk")));
+    assertEquals(1, limiters.get(ConcurrencyBudget.Type.BULK).getInFlight());
+    assertEquals(0, limiters.get(ConcurrencyBudget.Type.POINT).getInFlight());
+
+    interceptor.afterCompletion(request, response, handler("bulk"), null);
+    assertEquals(0, limiters.get(ConcurrencyBudget.Type.BULK).getInFlight());
+  }
+
+  @Test
+  @DisplayName("Should shed requests once the bulk budget is exhausted and export the rejection")
+  void testShedding() throws Exception {
+    interceptor.preHandle(
+        new MockHttpServletRequest(), new MockHttpServletResponse(), handler("bulk"));
+
+    assertThrows(
+        ConcurrencyLimitExceededException.class,
+        () ->
+            interceptor.preHandle(
+                new MockHttpServletRequest(), new MockHttpServletResponse(), handler("bulk")));
+    assertTrue(
+        interceptor.preHandle(
+            new MockHttpServletRequest(), new MockHttpServletResponse(), handler("point")));
+    assertEquals(
+        1.0,
+        meterRegistry
+            .get("employee.concurrency.rejected")
+            .tag("budget", "bulk")
+            .functionCounter()
+            .count());
+    assertEquals(
+        1.0, meterRegistry.get("employee.concurrency.limit").tag("budget", "bulk").gauge().value());
+  }
+
+  @Test
+  @DisplayName("Should treat server errors as a signal to shrink the limit")
+  void testFailureShrinksLimit() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    interceptor.preHandle(request, response, handler("point"));
+    response.setStatus(503);
+
+    interceptor.afterCompletion(request, response, handler("point"), null);
+
+    assertEquals(45, limiters.get(ConcurrencyBudget.Type.POINT).getLimit());
+  }
+
+  @Test
+  @DisplayName("Should admit everything when disabled")
+  void testDisabled() throws Exception {
+    properties.setEnabled(false);
+    for (int i = 0; i < 3; i++) {
+      assertTrue(
+          interceptor.preHandle(
+              new MockHttpServletRequest(), new MockHttpServletResponse(), handler("bulk")));
+    }
+  }
+}
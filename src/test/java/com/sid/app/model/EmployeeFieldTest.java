@@ -0,0 +1,65 @@
+package com.sid.app.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.sid.app.exception.InvalidFieldException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class EmployeeFieldTest {
+
+  @Test
+  @DisplayName("Should round-trip an employee through its hash representation")
+  void testToHashAndFromHash() {
+    Employee employee = new Employee("101", "John Doe", "Engineering", 50000.5);
+
+    Map<String, String> hash = EmployeeField.toHash(employee);
+
+    assertEquals("101", hash.get("id"));
+    assertEquals("50000.5", hash.get("salary"));
+    assertEquals(employee, EmployeeField.fromHash(hash));
+  }
+
+  @Test
+  @DisplayName("Should skip absent values when building the hash")
+  void testToHash_SkipsNulls() {
+    Employee employee = new Employee("101", null, "Engineering", 0);
+
+    Map<String, String> hash = EmployeeField.toHash(employee);
+
+    assertFalse(hash.containsKey("name"));
+    assertEquals(3, hash.size());
+  }
+
+  @Test
+  @DisplayName("Should resolve requested fields in order without duplicates")
+  void testOf_List() {
+    List<EmployeeField> fields = EmployeeField.of(List.of("salary", " name", "salary", ""));
+
+    assertEquals(List.of(EmployeeField.SALARY, EmployeeField.NAME), fields);
+  }
+
+  @Test
+  @DisplayName("Should reject unknown or empty field lists")
+  void testOf_Invalid() {
+    assertThrows(InvalidFieldException.class, () -> EmployeeField.of(List.of("address")));
+    assertThrows(InvalidFieldException.class, () -> EmployeeField.of(List.of(" ")));
+  }
+
+  @Test
+  @DisplayName("Should build typed projections from HMGET values")
+  void testProject_FromValues() {
+    Map<String, Object> projection =
+        EmployeeField.project(
+            List.of(EmployeeField.NAME, EmployeeField.SALARY), Arrays.asList(null, "42.0"));
+
+    assertEquals(Arrays.asList("name", "salary"), List.copyOf(projection.keySet()));
+    assertEquals(null, projection.get("name"));
+    assertEquals(42.0, projection.get("salary"));
+  }
+}
@@ -0,0 +1,310 @@
+package com.sid.app.repository;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.sid.app.model.BatchOutcome;
+import com.sid.app.model.Employee;
+import com.sid.app.model.EmployeeUpsert;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap.SimpleEntry;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisHashCommands;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+@ExtendWith(MockitoExtension.class)
+class BlobEmployeeStoreTest {
+
+  private static final String KEY = "Employee";
+  private static final RedisSerializer<Object> JDK = RedisSerializer.java();
+
+  @Mock private RedisTemplate<String, Object> redisTemplate;
+
+  @Mock private HashOperations<String, Object, Object> hashOperations;
+
+  @Mock private Cursor<Map.Entry<Object, Object>> cursor;
+
+  @Mock private RedisConnection connection;
+
+  @Mock private RedisHashCommands hashCommands;
+
+  private BlobEmployeeStore store;
+
+  private final List<Employee> employees =
+      List.of(
+          new Employee("101", "John Doe", "Engineering", 50000),
+          new Employee("102", "Jane Smith", "Finance", 60000),
+          new Employee("103", "Ann Lee", "Finance", 55000));
+
+  @BeforeEach
+  void setUp() {
+    store = new BlobEmployeeStore(redisTemplate);
+  }
+
+  @Test
+  @DisplayName("HSCAN results are handed over in batches, including a final partial batch")
+  void testScanBatches() {
+    doReturn(hashOperations).when(redisTemplate).opsForHash();
+    when(hashOperations.scan(eq(KEY), any(ScanOptions.class))).thenReturn(cursor);
+    Iterator<Employee> source = employees.iterator();
+    when(cursor.hasNext()).thenAnswer(invocation -> source.hasNext());
+    when(cursor.next())
+        .thenAnswer(
+            invocation -> {
+              Employee employee = source.next();
+              return new SimpleEntry<Object, Object>(employee.getId(), employee);
+            });
+
+    List<List<Employee>> batches = new ArrayList<>();
+    store.scan(2, batches::add);
+
+    assertEquals(List.of(employees.subList(0, 2), employees.subList(2, 3)), batches);
+  }
+
+  @Test
+  @DisplayName("Sampling stops after the requested number of employees")
+  void testSample() {
+    doReturn(hashOperations).when(redisTemplate).opsForHash();
+    when(hashOperations.scan(eq(KEY), any(ScanOptions.class))).thenReturn(cursor);
+    Iterator<Employee> source = employees.iterator();
+    when(cursor.hasNext()).thenAnswer(invocation -> source.hasNext());
+    when(cursor.next())
+        .thenAnswer(
+            invocation -> {
+              Employee employee = source.next();
+              return new SimpleEntry<Object, Object>(employee.getId(), employee);
+            });
+
+    assertEquals(employees.subList(0, 2), store.sample(2));
+  }
+
+  @Test
+  @DisplayName("Deleting several employees removes them with one HDEL")
+  void testDeleteAll() {
+    doReturn(hashOperations).when(redisTemplate).opsForHash();
+    when(hashOperations.delete(KEY, "101", "102")).thenReturn(2L);
+
+    assertEquals(2, store.deleteAll(List.of("101", "102")));
+  }
+
+  @Test
+  @DisplayName("Deleting an empty ID list does not call Redis")
+  void testDeleteAllEmpty() {
+    assertEquals(0, store.deleteAll(List.of()));
+    verifyNoInteractions(redisTemplate);
+  }
+
+  @Test
+  @DisplayName("Reads pair employees with versions from the plain EmployeeVersions hash")
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  void testRead() {
+    when(redisTemplate.execute(any(RedisCallback.class)))
+        .thenAnswer(
+            invocation -> ((RedisCallback) invocation.getArgument(0)).doInRedis(connection));
+    when(connection.hashCommands()).thenReturn(hashCommands);
+    when(hashCommands.hMGet(eq(bytes("EmployeeVersions")), any(byte[][].class)))
+        .thenReturn(Arrays.asList(bytes("4"), null));
+    doReturn(hashOperations).when(redisTemplate).opsForHash();
+    when(hashOperations.multiGet(KEY, List.of("101", "999")))
+        .thenReturn(Arrays.asList(employees.get(0), null));
+
+    assertEquals(
+        List.of(new StoredEmployee("101", employees.get(0), 4), new StoredEmployee("999", null, 0)),
+        store.read(List.of("101", "999")));
+  }
+
+  @Test
+  @DisplayName("A rename is checked against the read state and moves its index entries")
+  void testUpsertBatch_Rename() {
+    useJdkHashSerializers();
+    Employee previous = new Employee("101", "John Old", "Sales", 40000);
+    Employee current = employees.get(0);
+    List<Object> args =
+        stubScript(
+            List.of(
+                KEY,
+                "EmployeeVersions",
+                "EmployeeNameIndex",
+                "EmployeeNameIndex:sales",
+                "EmployeeDepartment:sales",
+                "EmployeeNameIndex",
+                "EmployeeNameIndex:engineering",
+                "EmployeeDepartment:engineering"),
+            List.of(bytes("UPDATED"), 3L));
+
+    List<EmployeeWriteResult> results =
+        store.upsertBatch(
+            List.of(new EmployeeUpsert(current, 2L)),
+            List.of(new StoredEmployee("101", previous, 2)));
+
+    assertEquals(
+        List.of(new EmployeeWriteResult("101", BatchOutcome.UPDATED, 3, current)), results);
+    assertEquals(19, args.size());
+    assertArrayEquals(JDK.serialize("101"), (byte[]) args.get(1));
+    assertArrayEquals(bytes("2"), (byte[]) args.get(2));
+    assertArrayEquals(JDK.serialize(current), (byte[]) args.get(3));
+    assertArrayEquals(bytes("2"), (byte[]) args.get(4));
+    assertArrayEquals(bytes("1"), (byte[]) args.get(5));
+    assertArrayEquals(bytes("6"), (byte[]) args.get(6));
+    assertArrayEquals(bytes("ZREM"), (byte[]) args.get(7));
+    assertArrayEquals(bytes(EmployeeNameIndex.member(previous)), (byte[]) args.get(8));
+    assertArrayEquals(bytes("SREM"), (byte[]) args.get(11));
+    assertArrayEquals(bytes("101"), (byte[]) args.get(12));
+    assertArrayEquals(bytes("ZADD"), (byte[]) args.get(13));
+    assertArrayEquals(bytes(EmployeeNameIndex.member(current)), (byte[]) args.get(14));
+  }
+
+  @Test
+  @DisplayName("Batch upserts only index new entries and report per-item outcomes")
+  void testUpsertBatch() {
+    useJdkHashSerializers();
+    List<Object> args =
+        stubScript(
+            List.of(
+                KEY,
+                "EmployeeVersions",
+                "EmployeeNameIndex",
+                "EmployeeNameIndex:finance",
+                "EmployeeDepartment:finance"),
+            List.of(bytes("UPDATED"), 2L, bytes("ALREADY_EXISTS"), 1L));
+
+    List<EmployeeWriteResult> results =
+        store.upsertBatch(
+            List.of(
+                new EmployeeUpsert(employees.get(0), 1L),
+                new EmployeeUpsert(employees.get(1), null)),
+            List.of(
+                new StoredEmployee("101", employees.get(0), 1),
+                new StoredEmployee("102", null, 0)));
+
+    assertEquals(
+        List.of(
+            new EmployeeWriteResult("101", BatchOutcome.UPDATED, 2, employees.get(0)),
+            new EmployeeWriteResult("102", BatchOutcome.ALREADY_EXISTS, 1, null)),
+        results);
+    assertArrayEquals(bytes("0"), (byte[]) args.get(6));
+    assertArrayEquals(bytes(""), (byte[]) args.get(9));
+    assertArrayEquals(bytes("0"), (byte[]) args.get(12));
+    assertArrayEquals(bytes("3"), (byte[]) args.get(13));
+  }
+
+  @Test
+  @DisplayName("Batch writes report nothing when an employee changed since it was read")
+  void testUpsertBatch_Stale() {
+    useJdkHashSerializers();
+    stubScript(List.of(KEY, "EmployeeVersions"), List.of());
+
+    assertTrue(
+        store
+            .upsertBatch(
+                List.of(new EmployeeUpsert(employees.get(0), 1L)),
+                List.of(new StoredEmployee("101", employees.get(0), 1)))
+            .isEmpty());
+  }
+
+  @Test
+  @DisplayName("Batch deletes remove the index entries of employees as read")
+  void testDeleteBatch() {
+    doReturn(JDK).when(redisTemplate).getHashKeySerializer();
+    List<Object> args =
+        stubScript(
+            List.of(
+                KEY,
+                "EmployeeVersions",
+                "EmployeeNameIndex",
+                "EmployeeNameIndex:engineering",
+                "EmployeeDepartment:engineering"),
+            List.of(bytes("DELETED"), 3L, bytes("NOT_FOUND"), 0L));
+
+    List<EmployeeWriteResult> results =
+        store.deleteBatch(
+            List.of(
+                new StoredEmployee("101", employees.get(0), 3),
+                new StoredEmployee("999", null, 0)));
+
+    assertEquals(
+        List.of(
+            new EmployeeWriteResult("101", BatchOutcome.DELETED, 3, null),
+            new EmployeeWriteResult("999", BatchOutcome.NOT_FOUND, 0, null)),
+        results);
+    assertArrayEquals(bytes("0"), (byte[]) args.get(0));
+    assertArrayEquals(bytes("ZREM"), (byte[]) args.get(6));
+    assertArrayEquals(bytes("SREM"), (byte[]) args.get(10));
+    assertArrayEquals(JDK.serialize("999"), (byte[]) args.get(13));
+    assertArrayEquals(bytes("0"), (byte[]) args.get(16));
+  }
+
+  @Test
+  @DisplayName("Department deletes are scoped to the department ID set")
+  void testDeleteFromDepartment() {
+    doReturn(JDK).when(redisTemplate).getHashKeySerializer();
+    Employee unnamed = new Employee("104", null, "Finance", 0);
+    List<Object> args =
+        stubScript(
+            List.of(
+                KEY,
+                "EmployeeVersions",
+                "EmployeeDepartment:finance",
+                "EmployeeDepartment:finance"),
+            List.of(bytes("DELETED"), 4L));
+
+    List<EmployeeWriteResult> results =
+        store.deleteFromDepartment("Finance", List.of(new StoredEmployee("104", unnamed, 4)));
+
+    assertEquals(List.of(new EmployeeWriteResult("104", BatchOutcome.DELETED, 4, null)), results);
+    assertArrayEquals(bytes("1"), (byte[]) args.get(0));
+    assertArrayEquals(bytes("104"), (byte[]) args.get(1));
+    assertArrayEquals(bytes("SREM"), (byte[]) args.get(6));
+  }
+
+  private void useJdkHashSerializers() {
+    doReturn(JDK).when(redisTemplate).getHashKeySerializer();
+    doReturn(JDK).when(redisTemplate).getHashValueSerializer();
+  }
+
+  /** Stubs the script call for the given keys and returns the list its arguments are put in. */
+  private List<Object> stubScript(List<String> keys, List<Object> reply) {
+    List<Object> args = new ArrayList<>();
+    doAnswer(
+            invocation -> {
+              args.addAll(Arrays.asList((Object[]) invocation.getRawArguments()[4]));
+              return reply;
+            })
+        .when(redisTemplate)
+        .execute(
+            any(RedisScript.class),
+            any(RedisSerializer.class),
+            any(RedisSerializer.class),
+            eq(keys),
+            any(Object[].class));
+    return args;
+  }
+
+  private static byte[] bytes(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+}
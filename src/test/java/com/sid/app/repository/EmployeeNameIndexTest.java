@@ -0,0 +1,206 @@
+package com.sid.app.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.endsWith;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.sid.app.model.Employee;
+import com.sid.app.model.EmployeeSuggestion;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeNameIndexTest {
+
+  private static final String GLOBAL_KEY = "EmployeeNameIndex";
+
+  @Mock private StringRedisTemplate stringRedisTemplate;
+
+  @Mock private RedisOperations<String, String> operations;
+
+  @Mock private ZSetOperations<String, String> zSetOperations;
+
+  @Mock private SetOperations<String, String> setOperations;
+
+  private EmployeeNameIndex nameIndex;
+
+  @BeforeEach
+  void setUp() {
+    nameIndex = new EmployeeNameIndex(stringRedisTemplate);
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private void runTransactions() {
+    when(stringRedisTemplate.execute(any(SessionCallback.class)))
+        .thenAnswer(
+            invocation -> ((SessionCallback) invocation.getArgument(0)).execute(operations));
+    when(operations.opsForZSet()).thenReturn(zSetOperations);
+  }
+
+  @Test
+  @DisplayName("Should strip accents, case-fold and collapse whitespace")
+  void testNormalize() {
+    assertEquals("jose alvarez", EmployeeNameIndex.normalize("  José   ÁLVAREZ "));
+    assertEquals("", EmployeeNameIndex.normalize(null));
+  }
+
+  @Test
+  @DisplayName("Should build members that sort by normalized name and carry ID and name")
+  void testMember() {
+    Employee employee = new Employee("7", "Ängela", "HR", 0);
+
+    assertEquals("angela\u00007\u0000Ängela", EmployeeNameIndex.member(employee));
+    assertNull(EmployeeNameIndex.member(new Employee("8", " ", "HR", 0)));
+  }
+
+  @Test
+  @DisplayName("Should scope department keys by normalized department")
+  void testKey() {
+    assertEquals(GLOBAL_KEY, EmployeeNameIndex.key(null));
+    assertEquals(GLOBAL_KEY + ":research & dev", EmployeeNameIndex.key("Research & Dev"));
+  }
+
+  @Test
+  @DisplayName("Should bound prefix ranges by the successor of the prefix")
+  void testPrefixRange() {
+    assertEquals(Range.rightOpen("jo", "jp"), EmployeeNameIndex.prefixRange("jo"));
+    assertEquals(Range.unbounded(), EmployeeNameIndex.prefixRange(""));
+  }
+
+  @Test
+  @DisplayName("Should serve prefix lookups with one limited ZRANGEBYLEX")
+  void testSearch() {
+    when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+    LinkedHashSet<String> members = new LinkedHashSet<>();
+    members.add("john doe\u00001\u0000John Doe");
+    members.add("jose\u00002\u0000José");
+    when(zSetOperations.rangeByLex(
+            eq(GLOBAL_KEY + ":it"), eq(Range.rightOpen("jo", "jp")), any(Limit.class)))
+        .thenReturn(members);
+
+    List<EmployeeSuggestion> suggestions = nameIndex.search("JO", "IT", 5);
+
+    assertEquals(
+        List.of(new EmployeeSuggestion("1", "John Doe"), new EmployeeSuggestion("2", "José")),
+        suggestions);
+  }
+
+  @Test
+  @DisplayName("Should compute the writes moving a renamed employee, removals first")
+  void testMoves_Rename() {
+    Employee previous = new Employee("1", "Jon", "IT", 0);
+    Employee current = new Employee("1", "John", null, 0);
+
+    assertEquals(
+        List.of(
+            new EmployeeNameIndex.IndexWrite("ZREM", GLOBAL_KEY, "jon\u00001\u0000Jon"),
+            new EmployeeNameIndex.IndexWrite("ZREM", GLOBAL_KEY + ":it", "jon\u00001\u0000Jon"),
+            new EmployeeNameIndex.IndexWrite("SREM", "EmployeeDepartment:it", "1"),
+            new EmployeeNameIndex.IndexWrite("ZADD", GLOBAL_KEY, "john\u00001\u0000John")),
+        EmployeeNameIndex.moves(previous, current));
+  }
+
+  @Test
+  @DisplayName("Should list unnamed employees in their department's ID set only")
+  void testMoves_Unnamed() {
+    assertEquals(
+        List.of(new EmployeeNameIndex.IndexWrite("SADD", "EmployeeDepartment:hr", "2")),
+        EmployeeNameIndex.moves(null, new Employee("2", null, " HR ", 0)));
+    assertEquals(
+        List.of(new EmployeeNameIndex.IndexWrite("SREM", "EmployeeDepartment:hr", "2")),
+        EmployeeNameIndex.moves(new Employee("2", "", "HR", 0), new Employee("2", "", " ", 0)));
+  }
+
+  @Test
+  @DisplayName("Should compute no writes when the indexed name and department are unchanged")
+  void testMoves_Unchanged() {
+    assertEquals(
+        List.of(),
+        EmployeeNameIndex.moves(
+            new Employee("1", "John", "IT", 100), new Employee("1", "John", "IT", 200)));
+    assertEquals(List.of(), EmployeeNameIndex.moves(null, new Employee("2", " ", null, 0)));
+  }
+
+  @Test
+  @DisplayName("Should pick department members from the department ID set")
+  void testDepartmentMembers() {
+    when(stringRedisTemplate.opsForSet()).thenReturn(setOperations);
+    when(setOperations.distinctRandomMembers("EmployeeDepartment:it", 2))
+        .thenReturn(Set.of("2"), (Set<String>) null);
+
+    assertEquals(List.of("2"), nameIndex.departmentMembers("IT", 2));
+    assertEquals(List.of(), nameIndex.departmentMembers("IT", 2));
+  }
+
+  @Test
+  @DisplayName("Should fill temporary keys and swap them in, retrying when a write intervenes")
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  void testRebuild() {
+    runTransactions();
+    when(stringRedisTemplate.executePipelined(any(SessionCallback.class)))
+        .thenAnswer(
+            invocation -> {
+              ((SessionCallback) invocation.getArgument(0)).execute(operations);
+              return List.of();
+            });
+    when(operations.opsForSet()).thenReturn(setOperations);
+    when(stringRedisTemplate.scan(any(ScanOptions.class)))
+        .thenAnswer(
+            invocation ->
+                cursor(
+                    invocation.<ScanOptions>getArgument(0).getPattern().startsWith(GLOBAL_KEY)
+                        ? List.of(GLOBAL_KEY + ":hr", GLOBAL_KEY + ":it")
+                        : List.of()));
+    when(operations.exec()).thenReturn(null, List.of(true, true));
+
+    assertEquals(1, nameIndex.rebuild(() -> List.of(new Employee("1", "Al", "IT", 0))));
+
+    verify(operations, times(2)).watch(List.of("Employee", "EmployeeIds", "EmployeeVersions"));
+    verify(zSetOperations, times(4))
+        .add(startsWith("EmployeeNameIndexRebuild:"), eq("al\u00001\u0000Al"), eq(0.0));
+    verify(setOperations, times(2)).add(endsWith(":EmployeeDepartment:it"), eq("1"));
+    verify(operations, times(2)).delete(List.of(GLOBAL_KEY + ":hr"));
+    verify(operations, times(2)).rename(endsWith(":" + GLOBAL_KEY + ":it"), eq(GLOBAL_KEY + ":it"));
+    verify(operations, times(2)).persist("EmployeeDepartment:it");
+    verify(operations, times(1)).delete(argThat((List<String> keys) -> keys.size() == 3));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Cursor<String> cursor(List<String> keys) {
+    Cursor<String> cursor = mock(Cursor.class);
+    doAnswer(
+            invocation -> {
+              keys.forEach(invocation.<Consumer<String>>getArgument(0));
+              return null;
+            })
+        .when(cursor)
+        .forEachRemaining(any());
+    return cursor;
+  }
+}
@@ -0,0 +1,317 @@
+package com.sid.app.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.sid.app.model.BatchOutcome;
+import com.sid.app.model.Employee;
+import com.sid.app.model.EmployeeField;
+import com.sid.app.model.EmployeeUpsert;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+@ExtendWith(MockitoExtension.class)
+class FieldHashEmployeeStoreTest {
+
+  private static final String KEY = "Employee:101";
+  private static final String INDEX_KEY = "EmployeeIds";
+
+  @Mock private StringRedisTemplate stringRedisTemplate;
+
+  @Mock private RedisOperations<String, String> operations;
+
+  @Mock private HashOperations<String, String, String> hashOperations;
+
+  @Mock private SetOperations<String, String> setOperations;
+
+  private FieldHashEmployeeStore store;
+
+  private Employee employee;
+
+  @BeforeEach
+  void setUp() {
+    store = new FieldHashEmployeeStore(stringRedisTemplate);
+    employee = new Employee("101", "John Doe", "Engineering", 50000);
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private void runSessionCallbacks() {
+    when(stringRedisTemplate.execute(any(SessionCallback.class)))
+        .thenAnswer(
+            invocation -> ((SessionCallback) invocation.getArgument(0)).execute(operations));
+  }
+
+  @Test
+  @DisplayName("Should rebuild an employee from HGETALL")
+  void testFindById_Found() {
+    doReturn(hashOperations).when(stringRedisTemplate).opsForHash();
+    when(hashOperations.entries(KEY)).thenReturn(EmployeeField.toHash(employee));
+
+    assertEquals(employee, store.findById("101"));
+  }
+
+  @Test
+  @DisplayName("Should return null when the employee hash does not exist")
+  void testFindById_NotFound() {
+    doReturn(hashOperations).when(stringRedisTemplate).opsForHash();
+    when(hashOperations.entries("Employee:999")).thenReturn(Map.of());
+
+    assertNull(store.findById("999"));
+  }
+
+  @Test
+  @DisplayName("Should serve projections with HMGET of only the requested fields")
+  void testFindFieldsById_Found() {
+    doReturn(hashOperations).when(stringRedisTemplate).opsForHash();
+    when(hashOperations.multiGet(KEY, List.of("id", "name"))).thenReturn(List.of("101", "John"));
+
+    Map<String, Object> projection = store.findFieldsById("101", List.of(EmployeeField.NAME));
+
+    assertEquals(Map.of("name", "John"), projection);
+  }
+
+  @Test
+  @DisplayName("Should return null projection when the employee hash does not exist")
+  void testFindFieldsById_NotFound() {
+    doReturn(hashOperations).when(stringRedisTemplate).opsForHash();
+    when(hashOperations.multiGet("Employee:999", List.of("id", "name")))
+        .thenReturn(Arrays.asList(null, null));
+
+    assertNull(store.findFieldsById("999", List.of(EmployeeField.NAME)));
+  }
+
+  @Test
+  @DisplayName("Should load all indexed employees in one pipeline")
+  void testFindAll() {
+    when(stringRedisTemplate.opsForSet()).thenReturn(setOperations);
+    when(setOperations.members(INDEX_KEY)).thenReturn(Set.of("101", "102"));
+    when(stringRedisTemplate.executePipelined(any(SessionCallback.class)))
+        .thenReturn(Arrays.asList(EmployeeField.toHash(employee), Map.of()));
+
+    List<Employee> employees = store.findAll();
+
+    assertEquals(List.of(employee), employees);
+  }
+
+  @Test
+  @DisplayName("Should sample random employees from the ID index")
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  void testSample() {
+    when(stringRedisTemplate.opsForSet()).thenReturn(setOperations);
+    when(setOperations.distinctRandomMembers(INDEX_KEY, 2)).thenReturn(Set.of("101"));
+    when(stringRedisTemplate.executePipelined(any(SessionCallback.class)))
+        .thenAnswer(
+            invocation -> {
+              ((SessionCallback) invocation.getArgument(0)).execute(operations);
+              return List.of(EmployeeField.toHash(employee));
+            });
+    doReturn(hashOperations).when(operations).opsForHash();
+
+    assertEquals(List.of(employee), store.sample(2));
+    verify(hashOperations).entries(KEY);
+  }
+
+  @Test
+  @DisplayName("Should return an empty list without a pipeline when no IDs are indexed")
+  void testFindAll_Empty() {
+    when(stringRedisTemplate.opsForSet()).thenReturn(setOperations);
+    when(setOperations.members(INDEX_KEY)).thenReturn(Set.of());
+
+    assertTrue(store.findAll().isEmpty());
+    assertTrue(store.findAllFields(List.of(EmployeeField.NAME)).isEmpty());
+  }
+
+  @Test
+  @DisplayName("Should project all indexed employees and skip stale index entries")
+  void testFindAllFields() {
+    when(stringRedisTemplate.opsForSet()).thenReturn(setOperations);
+    when(setOperations.members(INDEX_KEY)).thenReturn(Set.of("101", "102"));
+    when(stringRedisTemplate.executePipelined(any(SessionCallback.class)))
+        .thenReturn(List.of(List.of("101", "Engineering"), Arrays.asList(null, null)));
+
+    List<Map<String, Object>> projections = store.findAllFields(List.of(EmployeeField.DEPARTMENT));
+
+    assertEquals(List.of(Map.of("department", "Engineering")), projections);
+  }
+
+  @Test
+  @DisplayName("Should only write bulk-loaded employees that do not exist yet, unchecked")
+  void testSaveAllAbsent() {
+    Employee other = new Employee("102", "Jane Smith", "Finance", 60000);
+    List<Object> args =
+        stubScript(
+            List.of(INDEX_KEY, "EmployeeVersions", KEY, "Employee:102"),
+            List.of("INSERTED", 1L, "ALREADY_EXISTS", 4L));
+
+    assertEquals(1, store.saveAllAbsent(List.of(employee, other)));
+    assertEquals(List.of("101", "", "4"), args.subList(0, 3));
+    assertEquals(List.of("", "0", "0", "102", "", "4"), args.subList(11, 17));
+  }
+
+  @Test
+  @DisplayName("Should pass every upsert with its fields, read state and index moves")
+  void testUpsertBatch() {
+    Employee previous = new Employee("101", "John Old", "Engineering", 40000);
+    Employee other = new Employee("102", "Jane Smith", "Finance", 60000);
+    List<Object> args =
+        stubScript(
+            List.of(
+                INDEX_KEY,
+                "EmployeeVersions",
+                KEY,
+                "EmployeeNameIndex",
+                "EmployeeNameIndex:engineering",
+                "EmployeeNameIndex",
+                "EmployeeNameIndex:engineering",
+                "Employee:102",
+                "EmployeeNameIndex",
+                "EmployeeNameIndex:finance",
+                "EmployeeDepartment:finance"),
+            List.of("UPDATED", 3L, "ALREADY_EXISTS", 1L));
+
+    List<EmployeeWriteResult> results =
+        store.upsertBatch(
+            List.of(new EmployeeUpsert(employee, 2L), new EmployeeUpsert(other, null)),
+            List.of(new StoredEmployee("101", previous, 2), new StoredEmployee("102", null, 0)));
+
+    assertEquals(
+        List.of(
+            new EmployeeWriteResult("101", BatchOutcome.UPDATED, 3, employee),
+            new EmployeeWriteResult("102", BatchOutcome.ALREADY_EXISTS, 1, null)),
+        results);
+    assertEquals(List.of("101", "2", "4"), args.subList(0, 3));
+    assertEquals(
+        List.of("2", "1", "4", "ZREM", EmployeeNameIndex.member(previous)), args.subList(11, 16));
+    assertEquals(List.of("102", "", "4"), args.subList(22, 25));
+    assertEquals(List.of("0", "0", "3", "ZADD"), args.subList(33, 37));
+  }
+
+  @Test
+  @DisplayName("Should read versions first, then the employee hashes in one pipeline")
+  void testRead() {
+    doReturn(hashOperations).when(stringRedisTemplate).opsForHash();
+    when(hashOperations.multiGet("EmployeeVersions", List.of("101", "999")))
+        .thenReturn(Arrays.asList("7", null));
+    when(stringRedisTemplate.executePipelined(any(SessionCallback.class)))
+        .thenReturn(List.of(EmployeeField.toHash(employee), Map.of()));
+
+    assertEquals(
+        List.of(new StoredEmployee("101", employee, 7), new StoredEmployee("999", null, 0)),
+        store.read(List.of("101", "999")));
+    InOrder order = inOrder(hashOperations, stringRedisTemplate);
+    order.verify(hashOperations).multiGet("EmployeeVersions", List.of("101", "999"));
+    order.verify(stringRedisTemplate).executePipelined(any(SessionCallback.class));
+  }
+
+  @Test
+  @DisplayName("Should delete hashes with the index entries they were read with")
+  void testDeleteBatch() {
+    List<Object> args =
+        stubScript(
+            List.of(
+                INDEX_KEY,
+                "EmployeeVersions",
+                KEY,
+                "EmployeeNameIndex",
+                "EmployeeNameIndex:engineering",
+                "EmployeeDepartment:engineering",
+                "Employee:999"),
+            List.of("DELETED", 2L, "NOT_FOUND", 0L));
+
+    List<EmployeeWriteResult> results =
+        store.deleteBatch(
+            List.of(new StoredEmployee("101", employee, 2), new StoredEmployee("999", null, 0)));
+
+    assertEquals(
+        List.of(
+            new EmployeeWriteResult("101", BatchOutcome.DELETED, 2, null),
+            new EmployeeWriteResult("999", BatchOutcome.NOT_FOUND, 0, null)),
+        results);
+    String member = EmployeeNameIndex.member(employee);
+    assertEquals(
+        List.of(
+            "0", "101", "2", "1", "3", "ZREM", member, "ZREM", member, "SREM", "101", "999", "0",
+            "0", "0"),
+        args);
+  }
+
+  @Test
+  @DisplayName("Should report nothing when an employee changed since it was read")
+  void testDeleteBatch_Stale() {
+    stubScript(
+        List.of(
+            INDEX_KEY,
+            "EmployeeVersions",
+            KEY,
+            "EmployeeNameIndex",
+            "EmployeeNameIndex:engineering",
+            "EmployeeDepartment:engineering"),
+        List.of());
+
+    assertTrue(store.deleteBatch(List.of(new StoredEmployee("101", employee, 2))).isEmpty());
+  }
+
+  @Test
+  @DisplayName("Should scope department deletes to the department ID set")
+  void testDeleteFromDepartment() {
+    Employee unnamed = new Employee("104", null, "Engineering", 0);
+    List<Object> args =
+        stubScript(
+            List.of(
+                INDEX_KEY,
+                "EmployeeVersions",
+                "EmployeeDepartment:engineering",
+                "Employee:104",
+                "EmployeeDepartment:engineering"),
+            List.of("DELETED", 5L));
+
+    List<EmployeeWriteResult> results =
+        store.deleteFromDepartment("Engineering", List.of(new StoredEmployee("104", unnamed, 5)));
+
+    assertEquals(List.of(new EmployeeWriteResult("104", BatchOutcome.DELETED, 5, null)), results);
+    assertEquals(List.of("1", "104", "5", "1", "1", "SREM", "104"), args);
+  }
+
+  /** Stubs the script call for the given keys and returns the list its arguments are put in. */
+  private List<Object> stubScript(List<String> keys, List<Object> reply) {
+    List<Object> args = new ArrayList<>();
+    doAnswer(
+            invocation -> {
+              args.addAll(Arrays.asList((Object[]) invocation.getRawArguments()[4]));
+              return reply;
+            })
+        .when(stringRedisTemplate)
+        .execute(
+            any(RedisScript.class),
+            any(RedisSerializer.class),
+            any(RedisSerializer.class),
+            eq(keys),
+            any(Object[].class));
+    return args;
+  }
+}
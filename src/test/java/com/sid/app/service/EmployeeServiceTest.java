@@ -4,23 +4,44 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.Mockito.doNothing;
-import static org.mockito.Mockito.doReturn;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import com.sid.app.config.EmployeeBatchProperties;
+import com.sid.app.config.EmployeeNameIndexProperties;
+import com.sid.app.config.RedisResilienceProperties;
+import com.sid.app.exception.InvalidBatchException;
+import com.sid.app.exception.RedisUnavailableException;
 import com.sid.app.exception.UserNotFoundException;
+import com.sid.app.model.BatchOutcome;
 import com.sid.app.model.Employee;
+import com.sid.app.model.EmployeeBatchResult;
+import com.sid.app.model.EmployeeSuggestion;
+import com.sid.app.model.EmployeeUpsert;
+import com.sid.app.repository.BlobEmployeeStore;
+import com.sid.app.repository.EmployeeNameIndex;
+import com.sid.app.repository.EmployeeStore;
+import com.sid.app.repository.EmployeeWriteResult;
+import com.sid.app.repository.StoredEmployee;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
 import org.springframework.data.redis.core.HashOperations;
 import org.springframework.data.redis.core.RedisTemplate;
 
@@ -31,7 +52,15 @@ class EmployeeServiceTest {
 
   @Mock private HashOperations<String, String, Employee> hashOperations;
 
-  @InjectMocks private EmployeeService employeeService;
+  @Mock private EmployeeNameIndex employeeNameIndex;
+
+  @Mock private EmployeeStore employeeStore;
+
+  private EmployeeService employeeService;
+
+  private RedisResilienceProperties resilienceProperties;
+
+  private EmployeeWriteQueue writeQueue;
 
   private Employee employee;
   private static final String HASH_KEY = "Employee";
@@ -43,22 +72,40 @@ class EmployeeServiceTest {
     employee.setName("John Doe");
     employee.setDepartment("Engineering");
 
-    // Mock RedisTemplate to return our HashOperations
-    doReturn(hashOperations).when(redisTemplate).opsForHash();
+    resilienceProperties = new RedisResilienceProperties();
+    writeQueue = new EmployeeWriteQueue(resilienceProperties);
+    employeeService =
+        new EmployeeService(
+            new BlobEmployeeStore(redisTemplate),
+            employeeNameIndex,
+            new EmployeeNameIndexProperties(),
+            new RedisGuard(CircuitBreaker.ofDefaults("redis"), resilienceProperties),
+            new EmployeeSnapshotCache(resilienceProperties),
+            writeQueue,
+            resilienceProperties,
+            new EmployeeBatchProperties());
+
+    // Mock RedisTemplate to return our HashOperations (unused by name-index-only tests)
+    lenient().doReturn(hashOperations).when(redisTemplate).opsForHash();
   }
 
   @Test
-  @DisplayName("Should save an employee successfully")
+  @DisplayName("Should save an employee and index it in one conditional script")
   void testSaveEmployee() {
-    doNothing().when(hashOperations).put(HASH_KEY, employee.getId(), employee);
+    List<StoredEmployee> absent = stored("101", null, 0);
+    when(employeeStore.read(List.of("101"))).thenReturn(absent);
+    when(employeeStore.upsertBatch(List.of(new EmployeeUpsert(employee, null)), absent))
+        .thenReturn(written("101", BatchOutcome.INSERTED, 1));
 
-    Employee saved = employeeService.saveEmployee(employee);
+    Employee saved = mockedStoreService().saveEmployee(employee);
 
     assertNotNull(saved);
     assertEquals("101", saved.getId());
     assertEquals("John Doe", saved.getName());
     assertEquals("Engineering", saved.getDepartment());
-    verify(hashOperations, times(1)).put(HASH_KEY, employee.getId(), employee);
+    verify(employeeStore, times(1))
+        .upsertBatch(List.of(new EmployeeUpsert(employee, null)), absent);
+    verifyNoInteractions(employeeNameIndex);
   }
 
   @Test
@@ -104,25 +151,331 @@ class EmployeeServiceTest {
   }
 
   @Test
-  @DisplayName("Should delete employee when ID exists")
+  @DisplayName("Should delete employee and its index entries when ID exists")
   void testDeleteEmployee_Success() {
-    // HashOperations.delete() returns Long (number of removed entries)
-    when(hashOperations.delete(HASH_KEY, "101")).thenReturn(1L);
+    List<StoredEmployee> current = stored("101", employee, 2);
+    when(employeeStore.read(List.of("101"))).thenReturn(current);
+    when(employeeStore.deleteBatch(current)).thenReturn(written("101", BatchOutcome.DELETED, 2));
 
-    assertDoesNotThrow(() -> employeeService.deleteEmployee("101"));
+    EmployeeService service = mockedStoreService();
+    assertDoesNotThrow(() -> service.deleteEmployee("101"));
 
-    verify(hashOperations, times(1)).delete(HASH_KEY, "101");
+    verify(employeeStore, times(1)).deleteBatch(current);
   }
 
   @Test
   @DisplayName("Should throw UserNotFoundException when deleting non-existent ID")
   void testDeleteEmployee_NotFound() {
-    when(hashOperations.delete(HASH_KEY, "999")).thenReturn(0L); // nothing deleted
+    List<StoredEmployee> absent = stored("999", null, 0);
+    when(employeeStore.read(List.of("999"))).thenReturn(absent);
+    when(employeeStore.deleteBatch(absent)).thenReturn(written("999", BatchOutcome.NOT_FOUND, 0));
 
+    EmployeeService service = mockedStoreService();
     UserNotFoundException exception =
-        assertThrows(UserNotFoundException.class, () -> employeeService.deleteEmployee("999"));
+        assertThrows(UserNotFoundException.class, () -> service.deleteEmployee("999"));
 
     assertEquals("Could not found the user with id 999", exception.getMessage());
-    verify(hashOperations, times(1)).delete(HASH_KEY, "999");
+  }
+
+  @Test
+  @DisplayName("Should return only the requested fields when ID exists")
+  void testGetEmployeeFieldsById_Found() {
+    when(hashOperations.get(HASH_KEY, "101")).thenReturn(employee);
+
+    Map<String, Object> result = employeeService.getEmployeeFieldsById("101", List.of("name"));
+
+    assertEquals(Map.of("name", "John Doe"), result);
+    verify(hashOperations, times(1)).get(HASH_KEY, "101");
+  }
+
+  @Test
+  @DisplayName("Should throw UserNotFoundException when projecting a non-existent ID")
+  void testGetEmployeeFieldsById_NotFound() {
+    when(hashOperations.get(HASH_KEY, "999")).thenReturn(null);
+
+    assertThrows(
+        UserNotFoundException.class,
+        () -> employeeService.getEmployeeFieldsById("999", List.of("name")));
+  }
+
+  @Test
+  @DisplayName("Should return requested fields of all employees")
+  void testGetAllEmployeeFields() {
+    when(hashOperations.values(HASH_KEY)).thenReturn(List.of(employee));
+
+    List<Map<String, Object>> result =
+        employeeService.getAllEmployeeFields(List.of("id", "department"));
+
+    assertEquals(1, result.size());
+    assertEquals("101", result.get(0).get("id"));
+    assertEquals("Engineering", result.get(0).get("department"));
+    assertEquals(2, result.get(0).size());
+  }
+
+  @Test
+  @DisplayName("Should re-read and retry a rename that raced with another write")
+  void testSaveEmployee_RetriesOnConcurrentWrite() {
+    Employee stale = new Employee("101", "Johnny", "Engineering", 0);
+    Employee renamed = new Employee("101", "Jack", "Engineering", 0);
+    List<StoredEmployee> first = stored("101", stale, 1);
+    List<StoredEmployee> second = stored("101", renamed, 2);
+    when(employeeStore.read(List.of("101"))).thenReturn(first, second);
+    when(employeeStore.upsertBatch(List.of(new EmployeeUpsert(employee, 1L)), first))
+        .thenReturn(List.of());
+    when(employeeStore.upsertBatch(List.of(new EmployeeUpsert(employee, 2L)), second))
+        .thenReturn(written("101", BatchOutcome.UPDATED, 3));
+
+    mockedStoreService().saveEmployee(employee);
+
+    // the index is moved from the name actually replaced, inside the store's script
+    verify(employeeStore, times(1)).upsertBatch(List.of(new EmployeeUpsert(employee, 2L)), second);
+    verifyNoInteractions(employeeNameIndex);
+  }
+
+  @Test
+  @DisplayName("Should apply default and maximum limits to autocomplete")
+  void testAutocomplete_Limits() {
+    List<EmployeeSuggestion> suggestions = List.of(new EmployeeSuggestion("101", "John Doe"));
+    when(employeeNameIndex.search("jo", null, 10)).thenReturn(suggestions);
+    when(employeeNameIndex.search("jo", "Engineering", 100)).thenReturn(List.of());
+
+    assertEquals(suggestions, employeeService.autocomplete("jo", null, null));
+    assertEquals(List.of(), employeeService.autocomplete("jo", "Engineering", 5000));
+  }
+
+  @Test
+  @DisplayName("Should rebuild the name index from all stored employees")
+  @SuppressWarnings("unchecked")
+  void testRebuildNameIndex() {
+    when(hashOperations.values(HASH_KEY)).thenReturn(List.of(employee));
+    when(employeeNameIndex.rebuild(any()))
+        .thenAnswer(
+            invocation -> ((Supplier<List<Employee>>) invocation.getArgument(0)).get().size());
+
+    assertEquals(1, employeeService.rebuildNameIndex());
+    verify(hashOperations).values(HASH_KEY);
+  }
+
+  @Test
+  @DisplayName("Should serve the last known employee when Redis fails")
+  void testGetEmployeeById_FallsBackToSnapshot() {
+    when(hashOperations.get(HASH_KEY, "101"))
+        .thenReturn(employee)
+        .thenThrow(new RedisConnectionFailureException("down"));
+
+    employeeService.getEmployeeById("101");
+    Employee result = employeeService.getEmployeeById("101");
+
+    assertEquals(employee, result);
+  }
+
+  @Test
+  @DisplayName("Should report Redis unavailable when no snapshot exists")
+  void testGetEmployeeById_NoSnapshot() {
+    when(hashOperations.get(HASH_KEY, "101"))
+        .thenThrow(new RedisConnectionFailureException("down"));
+
+    assertThrows(RedisUnavailableException.class, () -> employeeService.getEmployeeById("101"));
+  }
+
+  @Test
+  @DisplayName("Should serve the last known list and its projections when Redis fails")
+  void testGetAllEmployees_FallsBackToSnapshot() {
+    when(hashOperations.values(HASH_KEY))
+        .thenReturn(List.of(employee))
+        .thenThrow(new RedisConnectionFailureException("down"));
+
+    when(employeeNameIndex.search("JOHN", "engineering", 10))
+        .thenThrow(new RedisConnectionFailureException("down"));
+
+    employeeService.getAllEmployees();
+
+    assertEquals(List.of(employee), employeeService.getAllEmployees());
+    assertEquals(
+        List.of(Map.of("name", "John Doe")), employeeService.getAllEmployeeFields(List.of("name")));
+    assertEquals(
+        List.of(new EmployeeSuggestion("101", "John Doe")),
+        employeeService.autocomplete("JOHN", "engineering", null));
+  }
+
+  @Test
+  @DisplayName("Should reject writes quickly when Redis is unavailable in REJECT mode")
+  void testSaveEmployee_RejectedWhenUnavailable() {
+    when(employeeStore.read(List.of("101"))).thenThrow(new RedisConnectionFailureException("down"));
+
+    EmployeeService service = mockedStoreService();
+    assertThrows(RedisUnavailableException.class, () -> service.saveEmployee(employee));
+    assertTrue(writeQueue.isEmpty());
+  }
+
+  @Test
+  @DisplayName("Should queue writes while Redis is unavailable and replay them in order")
+  void testSaveEmployee_QueuedAndReplayed() {
+    resilienceProperties.setWriteMode(RedisResilienceProperties.WriteMode.QUEUE);
+    Employee other = new Employee("102", "Jane Smith", "Finance", 0);
+    List<StoredEmployee> absent = stored("101", null, 0);
+    List<StoredEmployee> existing = stored("102", other, 1);
+    when(employeeStore.read(List.of("101")))
+        .thenThrow(new RedisConnectionFailureException("down"))
+        .thenReturn(absent);
+    when(employeeStore.upsertBatch(List.of(new EmployeeUpsert(employee, null)), absent))
+        .thenReturn(written("101", BatchOutcome.INSERTED, 1));
+    when(employeeStore.read(List.of("102"))).thenReturn(existing);
+    when(employeeStore.deleteBatch(existing)).thenReturn(written("102", BatchOutcome.DELETED, 1));
+
+    EmployeeService service = mockedStoreService();
+    service.saveEmployee(employee);
+    service.deleteEmployee("102");
+    assertEquals(2, writeQueue.size());
+
+    service.replayQueuedWrites();
+
+    assertTrue(writeQueue.isEmpty());
+    InOrder order = inOrder(employeeStore);
+    order.verify(employeeStore).upsertBatch(List.of(new EmployeeUpsert(employee, null)), absent);
+    order.verify(employeeStore).deleteBatch(existing);
+  }
+
+  private static List<EmployeeWriteResult> written(String id, BatchOutcome outcome, long version) {
+    return List.of(new EmployeeWriteResult(id, outcome, version, null));
+  }
+
+  private static List<StoredEmployee> stored(String id, Employee employee, long version) {
+    return List.of(new StoredEmployee(id, employee, version));
+  }
+
+  /** Builds a service over a mocked store, for the script-backed writes. */
+  private EmployeeService mockedStoreService() {
+    return batchService(new EmployeeBatchProperties());
+  }
+
+  /** Builds a service over a mocked store, for the script-backed batch operations. */
+  private EmployeeService batchService(EmployeeBatchProperties batchProperties) {
+    return new EmployeeService(
+        employeeStore,
+        employeeNameIndex,
+        new EmployeeNameIndexProperties(),
+        new RedisGuard(CircuitBreaker.ofDefaults("redis"), resilienceProperties),
+        new EmployeeSnapshotCache(resilienceProperties),
+        writeQueue,
+        resilienceProperties,
+        batchProperties);
+  }
+
+  @Test
+  @DisplayName("Should report per-item upsert outcomes, re-reading when an employee changed")
+  void testUpsertEmployees() {
+    Employee previous = new Employee("101", "Johnny", "Engineering", 0);
+    Employee conflicting = new Employee("102", "Jane", "Finance", 0);
+    List<EmployeeUpsert> upserts =
+        List.of(new EmployeeUpsert(employee, 1L), new EmployeeUpsert(conflicting, 4L));
+    List<StoredEmployee> stale =
+        List.of(new StoredEmployee("101", previous, 1), new StoredEmployee("102", null, 0));
+    List<StoredEmployee> current =
+        List.of(new StoredEmployee("101", previous, 1), new StoredEmployee("102", conflicting, 5));
+    when(employeeStore.read(List.of("101", "102"))).thenReturn(stale, current);
+    when(employeeStore.upsertBatch(upserts, stale)).thenReturn(List.of());
+    when(employeeStore.upsertBatch(upserts, current))
+        .thenReturn(
+            List.of(
+                new EmployeeWriteResult("101", BatchOutcome.UPDATED, 2, employee),
+                new EmployeeWriteResult("102", BatchOutcome.VERSION_CONFLICT, 5, null)));
+
+    List<EmployeeBatchResult> results =
+        batchService(new EmployeeBatchProperties()).upsertEmployees(upserts);
+
+    assertEquals(
+        List.of(
+            new EmployeeBatchResult("101", BatchOutcome.UPDATED, 2),
+            new EmployeeBatchResult("102", BatchOutcome.VERSION_CONFLICT, 5)),
+        results);
+    verifyNoInteractions(employeeNameIndex);
+  }
+
+  @Test
+  @DisplayName("Should reject empty, oversized and malformed batches before calling Redis")
+  void testBatch_Invalid() {
+    EmployeeBatchProperties batchProperties = new EmployeeBatchProperties();
+    batchProperties.setMaxItems(1);
+    EmployeeService service = batchService(batchProperties);
+
+    assertThrows(InvalidBatchException.class, () -> service.deleteEmployees(List.of()));
+    assertThrows(InvalidBatchException.class, () -> service.deleteEmployees(List.of("1", "2")));
+    assertThrows(InvalidBatchException.class, () -> service.deleteEmployees(List.of(" ")));
+    assertThrows(
+        InvalidBatchException.class,
+        () -> service.upsertEmployees(List.of(new EmployeeUpsert(new Employee(), null))));
+    assertThrows(
+        InvalidBatchException.class,
+        () -> service.upsertEmployees(List.of(new EmployeeUpsert(employee, -1L))));
+    assertThrows(
+        InvalidBatchException.class,
+        () ->
+            batchService(new EmployeeBatchProperties())
+                .upsertEmployees(
+                    List.of(new EmployeeUpsert(employee, null), new EmployeeUpsert(employee, 1L))));
+    assertThrows(InvalidBatchException.class, () -> service.deleteEmployeesByDepartment(""));
+    verifyNoInteractions(employeeStore);
+  }
+
+  @Test
+  @DisplayName("Should delete a batch by ID and drop index entries of deleted employees")
+  void testDeleteEmployees() {
+    List<StoredEmployee> stored =
+        List.of(new StoredEmployee("101", employee, 3), new StoredEmployee("999", null, 0));
+    when(employeeStore.read(List.of("101", "999"))).thenReturn(stored);
+    when(employeeStore.deleteBatch(stored))
+        .thenReturn(
+            List.of(
+                new EmployeeWriteResult("101", BatchOutcome.DELETED, 3, null),
+                new EmployeeWriteResult("999", BatchOutcome.NOT_FOUND, 0, null)));
+
+    List<EmployeeBatchResult> results =
+        batchService(new EmployeeBatchProperties()).deleteEmployees(List.of("101", "999"));
+
+    assertEquals(BatchOutcome.DELETED, results.get(0).getOutcome());
+    assertEquals(BatchOutcome.NOT_FOUND, results.get(1).getOutcome());
+    verifyNoInteractions(employeeNameIndex);
+  }
+
+  @Test
+  @DisplayName("Should delete a department chunk by chunk until the index is drained")
+  void testDeleteEmployeesByDepartment() {
+    EmployeeBatchProperties batchProperties = new EmployeeBatchProperties();
+    batchProperties.setDepartmentChunkSize(2);
+    List<StoredEmployee> first =
+        List.of(
+            new StoredEmployee("1", new Employee("1", null, "IT", 0), 1),
+            new StoredEmployee("2", null, 0));
+    List<StoredEmployee> second = stored("3", new Employee("3", "C", "IT", 0), 2);
+    when(employeeNameIndex.departmentMembers("IT", 2)).thenReturn(List.of("1", "2"), List.of("3"));
+    when(employeeStore.read(List.of("1", "2"))).thenReturn(first);
+    when(employeeStore.read(List.of("3"))).thenReturn(second);
+    when(employeeStore.deleteFromDepartment("IT", first))
+        .thenReturn(
+            List.of(
+                new EmployeeWriteResult("1", BatchOutcome.DELETED, 1, null),
+                new EmployeeWriteResult("2", BatchOutcome.NOT_FOUND, 0, null)));
+    when(employeeStore.deleteFromDepartment("IT", second))
+        .thenReturn(List.of(new EmployeeWriteResult("3", BatchOutcome.DELETED, 2, null)));
+
+    List<EmployeeBatchResult> results =
+        batchService(batchProperties).deleteEmployeesByDepartment("IT");
+
+    assertEquals(3, results.size());
+    assertEquals("3", results.get(2).getId());
+    verify(employeeNameIndex, times(2)).departmentMembers("IT", 2);
+  }
+
+  @Test
+  @DisplayName("Should not let a batch overtake writes queued while Redis was unavailable")
+  void testBatch_RejectedBehindQueuedWrites() {
+    resilienceProperties.setWriteMode(RedisResilienceProperties.WriteMode.QUEUE);
+    writeQueue.offer(EmployeeWriteQueue.QueuedWrite.delete("102"));
+
+    assertThrows(
+        RedisUnavailableException.class,
+        () -> batchService(new EmployeeBatchProperties()).deleteEmployees(List.of("101")));
+    verifyNoInteractions(employeeStore);
   }
 }
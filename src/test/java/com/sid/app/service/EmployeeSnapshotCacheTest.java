@@ -0,0 +1,71 @@
+package com.sid.app.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sid.app.model.Employee;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class EmployeeSnapshotCacheTest {
+
+  private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+  private final EmployeeSnapshotCache cache =
+      new EmployeeSnapshotCache(2, Clock.fixed(NOW, ZoneOffset.UTC));
+
+  private final Employee john = new Employee("1", "John", "IT", 1);
+  private final Employee jane = new Employee("2", "Jane", "HR", 2);
+
+  @Test
+  @DisplayName("Should keep only the most recently used employees")
+  void testPut_EvictsLeastRecentlyUsed() {
+    cache.put(john);
+    cache.put(jane);
+    cache.get("1");
+    cache.put(new Employee("3", "Jim", "IT", 3));
+
+    assertTrue(cache.get("1").isPresent());
+    assertTrue(cache.get("2").isEmpty());
+    assertEquals(NOW, cache.get("1").get().capturedAt());
+  }
+
+  @Test
+  @DisplayName("Should patch the full list with later writes and deletes")
+  void testAll_PatchedByWrites() {
+    cache.putAll(List.of(john, jane));
+    Employee renamed = new Employee("1", "Johnny", "IT", 1);
+
+    cache.put(renamed);
+    cache.remove("2");
+
+    assertEquals(List.of(renamed), cache.all().get().value());
+  }
+
+  @Test
+  @DisplayName("Should have no full list until one was read")
+  void testAll_Empty() {
+    cache.put(john);
+
+    assertTrue(cache.all().isEmpty());
+  }
+
+  @Test
+  @DisplayName("Should not let callers mutate a snapshot through stored or returned employees")
+  void testSnapshots_AreCopies() {
+    Employee stored = new Employee("1", "John", "IT", 1);
+    cache.putAll(List.of(stored));
+    cache.put(stored);
+
+    stored.setName("Unsaved");
+    cache.get("1").get().value().setName("Also unsaved");
+    cache.all().get().value().get(0).setSalary(99);
+
+    assertEquals(john, cache.get("1").get().value());
+    assertEquals(List.of(john), cache.all().get().value());
+  }
+}
@@ -0,0 +1,91 @@
+package com.sid.app.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.sid.app.config.EmployeeStorageProperties;
+import com.sid.app.model.Employee;
+import com.sid.app.repository.BlobEmployeeStore;
+import com.sid.app.repository.FieldHashEmployeeStore;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeStorageMigrationServiceTest {
+
+  @Mock private BlobEmployeeStore blobEmployeeStore;
+
+  @Mock private FieldHashEmployeeStore fieldHashEmployeeStore;
+
+  private EmployeeStorageProperties properties;
+
+  private EmployeeStorageMigrationService migrationService;
+
+  private final List<Employee> batch =
+      List.of(
+          new Employee("101", "John Doe", "Engineering", 50000),
+          new Employee("102", "Jane Smith", "Finance", 60000));
+
+  @BeforeEach
+  void setUp() {
+    properties = new EmployeeStorageProperties();
+    migrationService =
+        new EmployeeStorageMigrationService(blobEmployeeStore, fieldHashEmployeeStore, properties);
+  }
+
+  @SuppressWarnings("unchecked")
+  private void scanReturnsBatch() {
+    doAnswer(
+            invocation -> {
+              ((Consumer<List<Employee>>) invocation.getArgument(1)).accept(batch);
+              return null;
+            })
+        .when(blobEmployeeStore)
+        .scan(anyInt(), any());
+  }
+
+  @Test
+  @DisplayName("Should copy scanned batches without overwriting employees already migrated")
+  void testMigrate_KeepsSource() {
+    scanReturnsBatch();
+    when(fieldHashEmployeeStore.saveAllAbsent(batch)).thenReturn(1L);
+
+    long migrated = migrationService.migrateBlobToHash();
+
+    assertEquals(1, migrated);
+    verify(fieldHashEmployeeStore).saveAllAbsent(batch);
+    verify(blobEmployeeStore, never()).deleteAll(anyList());
+  }
+
+  @Test
+  @DisplayName("Should delete migrated blob records when configured")
+  void testMigrate_DeletesSource() {
+    properties.setDeleteSourceAfterMigration(true);
+    scanReturnsBatch();
+
+    migrationService.migrateBlobToHash();
+
+    verify(blobEmployeeStore).deleteAll(List.of("101", "102"));
+  }
+
+  @Test
+  @DisplayName("Should not migrate on startup unless enabled")
+  void testRun_Disabled() {
+    migrationService.run(null);
+
+    verifyNoInteractions(blobEmployeeStore, fieldHashEmployeeStore);
+  }
+}
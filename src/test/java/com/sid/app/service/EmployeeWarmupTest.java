@@ -0,0 +1,85 @@
+package com.sid.app.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sid.app.config.EmployeeWarmupProperties;
+import com.sid.app.exception.RedisUnavailableException;
+import com.sid.app.model.Employee;
+import com.sid.app.model.EmployeeSuggestion;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeWarmupTest {
+
+  @Mock private EmployeeService employeeService;
+
+  private EmployeeWarmupProperties properties;
+
+  private EmployeeWarmup warmup;
+
+  private final Employee employee = new Employee("101", "John Doe", "Engineering", 50000);
+
+  @BeforeEach
+  void setUp() {
+    properties = new EmployeeWarmupProperties();
+    warmup = new EmployeeWarmup(employeeService, new ObjectMapper(), properties);
+  }
+
+  @Test
+  @DisplayName("Does nothing on startup unless enabled")
+  void testRunDisabled() {
+    warmup.run(null);
+
+    verifyNoInteractions(employeeService);
+  }
+
+  @Test
+  @DisplayName("Preloads all employees and hot IDs and queries the name index")
+  void testWarmUpLoadsEmployees() {
+    properties.setEnabled(true);
+    properties.setHotIds(List.of("101", "999"));
+    when(employeeService.getAllEmployees()).thenReturn(List.of(employee));
+    when(employeeService.getEmployeeById("101")).thenReturn(employee);
+    when(employeeService.getEmployeeById("999")).thenReturn(null);
+    when(employeeService.autocomplete("John Doe", null, 1))
+        .thenReturn(List.of(new EmployeeSuggestion("101", "John Doe")));
+
+    warmup.run(null);
+
+    verify(employeeService).getAllEmployees();
+    verify(employeeService).getEmployeeById("999");
+    verify(employeeService).autocomplete("John Doe", null, 1);
+  }
+
+  @Test
+  @DisplayName("Skips the full preload when disabled and counts hot IDs only")
+  void testWarmUpHotIdsOnly() {
+    properties.setPreloadAll(false);
+    properties.setHotIds(List.of("101"));
+    when(employeeService.getEmployeeById("101")).thenReturn(employee);
+
+    assertEquals(1, warmup.warmUp());
+  }
+
+  @Test
+  @DisplayName("Redis failures are logged and do not prevent startup")
+  void testWarmUpToleratesRedisFailure() {
+    properties.setHotIds(List.of("101"));
+    when(employeeService.getAllEmployees())
+        .thenThrow(new RedisUnavailableException("getAllEmployees", 10, null));
+    when(employeeService.getEmployeeById("101"))
+        .thenThrow(new RedisUnavailableException("getEmployeeById", 10, null));
+
+    assertEquals(0, warmup.warmUp());
+  }
+}
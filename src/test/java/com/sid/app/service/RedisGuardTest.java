@@ -0,0 +1,162 @@
+package com.sid.app.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sid.app.config.RedisResilienceProperties;
+import com.sid.app.exception.RedisUnavailableException;
+import com.sid.app.service.EmployeeSnapshotCache.Snapshot;
+import com.sid.app.utils.ResponseMetadata;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+class RedisGuardTest {
+
+  private final CircuitBreaker circuitBreaker = CircuitBreaker.ofDefaults("redis");
+
+  private RedisGuard redisGuard;
+
+  private MockHttpServletRequest request;
+
+  @BeforeEach
+  void setUp() {
+    RedisResilienceProperties properties = new RedisResilienceProperties();
+    properties.setWaitDurationInOpenState(Duration.ofSeconds(30));
+    redisGuard = new RedisGuard(circuitBreaker, properties);
+    request = new MockHttpServletRequest();
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+  }
+
+  @AfterEach
+  void tearDown() {
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  @Test
+  @DisplayName("Should return the Redis result without marking the response stale")
+  void testRead_Success() {
+    String result = redisGuard.read("read", () -> "fresh", Optional::empty);
+
+    assertEquals("fresh", result);
+    assertEquals(null, request.getAttribute(ResponseMetadata.STALE_SINCE_ATTRIBUTE));
+  }
+
+  @Test
+  @DisplayName("Should serve the snapshot and mark the response stale when Redis times out")
+  void testRead_FallbackOnTimeout() {
+    Instant capturedAt = Instant.parse("2025-01-01T00:00:00Z");
+
+    String result =
+        redisGuard.read(
+            "read",
+            () -> {
+              throw new QueryTimeoutException("timeout");
+            },
+            () -> Optional.of(new Snapshot<>("stale", capturedAt)));
+
+    assertEquals("stale", result);
+    assertEquals(capturedAt, request.getAttribute(ResponseMetadata.STALE_SINCE_ATTRIBUTE));
+  }
+
+  @Test
+  @DisplayName("Should not call Redis while the breaker is open")
+  void testRead_OpenBreakerSkipsRedis() {
+    circuitBreaker.transitionToOpenState();
+    AtomicInteger calls = new AtomicInteger();
+
+    String result =
+        redisGuard.read(
+            "read",
+            () -> {
+              calls.incrementAndGet();
+              return "fresh";
+            },
+            () -> Optional.of(new Snapshot<>("stale", Instant.now())));
+
+    assertEquals("stale", result);
+    assertEquals(0, calls.get());
+    assertFalse(redisGuard.isCallPermitted());
+  }
+
+  @Test
+  @DisplayName("Should fail fast with a retry hint when no snapshot or breaker is open for writes")
+  void testUnavailable() {
+    circuitBreaker.transitionToOpenState();
+
+    RedisUnavailableException readException =
+        assertThrows(
+            RedisUnavailableException.class,
+            () -> redisGuard.read("read", () -> "fresh", Optional::empty));
+    RedisUnavailableException writeException =
+        assertThrows(RedisUnavailableException.class, () -> redisGuard.write("write", () -> {}));
+
+    assertEquals(30, readException.getRetryAfterSeconds());
+    assertEquals(30, writeException.getRetryAfterSeconds());
+  }
+
+  @Test
+  @DisplayName("Should return the result of a write that reports outcomes")
+  void testWrite_ReturnsResult() {
+    assertEquals(List.of("DELETED"), redisGuard.write("batch", () -> List.of("DELETED")));
+  }
+
+  @Test
+  @DisplayName("Should count bulk call failures but never time bulk calls as slow")
+  void testBulk_NotSlow() {
+    CircuitBreaker breaker =
+        CircuitBreaker.of(
+            "redis",
+            CircuitBreakerConfig.custom()
+                .slowCallDurationThreshold(Duration.ofMillis(1))
+                .recordExceptions(DataAccessException.class)
+                .build());
+    RedisGuard guard = new RedisGuard(breaker, new RedisResilienceProperties());
+
+    assertEquals("all", guard.readBulk("readBulk", () -> slow("all"), Optional::empty));
+    assertEquals("batch", guard.writeBulk("writeBulk", () -> slow("batch")));
+    assertThrows(
+        RedisUnavailableException.class,
+        () ->
+            guard.writeBulk(
+                "writeBulk",
+                () -> {
+                  throw new QueryTimeoutException("timeout");
+                }));
+    guard.read("read", () -> slow("one"), Optional::empty);
+
+    assertEquals(3, breaker.getMetrics().getNumberOfSuccessfulCalls());
+    assertEquals(1, breaker.getMetrics().getNumberOfFailedCalls());
+    assertEquals(1, breaker.getMetrics().getNumberOfSlowCalls());
+  }
+
+  @Test
+  @DisplayName("Should let calls through while the breaker is closed")
+  void testIsCallPermitted() {
+    assertTrue(redisGuard.isCallPermitted());
+  }
+
+  private static String slow(String result) {
+    try {
+      Thread.sleep(5);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return result;
+  }
+}
@@ -0,0 +1,275 @@
+package com.sid.app.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import com.sid.app.config.RedisMemoryReportProperties;
+import com.sid.app.model.Employee;
+import com.sid.app.model.EmployeeField;
+import com.sid.app.model.RedisMemoryReport;
+import com.sid.app.model.RedisMemoryReport.KeySample;
+import com.sid.app.repository.BlobEmployeeStore;
+import com.sid.app.repository.FieldHashEmployeeStore;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.connection.DataType;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisHashCommands;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.util.unit.DataSize;
+
+@ExtendWith(MockitoExtension.class)
+class RedisMemoryInspectorTest {
+
+  @Mock private StringRedisTemplate stringRedisTemplate;
+
+  @Mock private RedisTemplate<String, Object> redisTemplate;
+
+  @Mock private BlobEmployeeStore blobEmployeeStore;
+
+  @Mock private FieldHashEmployeeStore fieldHashEmployeeStore;
+
+  @Mock private HashOperations<String, Object, Object> hashOperations;
+
+  @Mock private SetOperations<String, String> setOperations;
+
+  @Mock private Cursor<String> cursor;
+
+  private RedisMemoryReportProperties properties;
+
+  private RedisMemoryInspector inspector;
+
+  private final Employee employee = new Employee("101", "John Doe", "Engineering", 50000);
+
+  @BeforeEach
+  void setUp() {
+    properties = new RedisMemoryReportProperties();
+    doReturn(new GenericJackson2JsonRedisSerializer()).when(redisTemplate).getValueSerializer();
+    inspector =
+        new RedisMemoryInspector(
+            stringRedisTemplate,
+            redisTemplate,
+            blobEmployeeStore,
+            fieldHashEmployeeStore,
+            properties);
+  }
+
+  private void scanReturns(String... keys) {
+    when(stringRedisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
+    Iterator<String> source = Arrays.asList(keys).iterator();
+    when(cursor.hasNext()).thenAnswer(invocation -> source.hasNext());
+    when(cursor.next()).thenAnswer(invocation -> source.next());
+  }
+
+  private void countsReturn(long blobHashFields, long fieldHashes) {
+    doReturn(hashOperations).when(stringRedisTemplate).opsForHash();
+    doReturn(setOperations).when(stringRedisTemplate).opsForSet();
+    when(hashOperations.size("Employee")).thenReturn(blobHashFields);
+    when(setOperations.size("EmployeeIds")).thenReturn(fieldHashes);
+  }
+
+  private static byte[] bytes(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Test
+  @DisplayName("Reports memory, field counts, value sizes, big and hot keys")
+  @SuppressWarnings("unchecked")
+  void testInspect() {
+    properties.setBigKeyElements(100);
+    scanReturns("Employee", "Employee:1", "Employee:2", "EmployeeIds");
+    // MEMORY USAGE works, OBJECT FREQ fails (no LFU policy), OBJECT IDLETIME works
+    when(stringRedisTemplate.execute(any(RedisCallback.class)))
+        .thenReturn(100L)
+        .thenThrow(new InvalidDataAccessApiUsageException("ERR An LFU maxmemory policy is not"))
+        .thenReturn(5L);
+    // TYPE, MEMORY USAGE, OBJECT IDLETIME per key, then one element count per key by memory
+    when(stringRedisTemplate.executePipelined(any(RedisCallback.class)))
+        .thenReturn(
+            List.of(
+                DataType.HASH,
+                30000L,
+                50L,
+                DataType.HASH,
+                120L,
+                3L,
+                DataType.HASH,
+                100L,
+                1L,
+                DataType.SET,
+                80L,
+                2L))
+        .thenReturn(List.of(250L, 4L, 4L, 2L));
+    countsReturn(250, 2);
+    when(blobEmployeeStore.sample(50)).thenReturn(List.of(employee));
+    when(fieldHashEmployeeStore.sample(49)).thenReturn(List.of(employee));
+
+    RedisMemoryReport report = inspector.inspect();
+
+    assertEquals(4, report.getKeysScanned());
+    assertTrue(report.isComplete());
+    assertTrue(report.isMemoryUsageSupported());
+    assertEquals("idle-time", report.getHotKeySource());
+
+    RedisMemoryReport.KeyGroup hashes = report.getGroups().get("employee-hashes");
+    assertEquals(2, hashes.getKeys());
+    assertEquals(8L, hashes.getElements());
+    assertEquals(220L, hashes.getMemoryBytes());
+    assertEquals(110L, hashes.getAverageMemoryBytes());
+    assertEquals(30000L, report.getGroups().get("blob-hash").getMemoryBytes());
+    assertEquals(1, report.getGroups().get("id-index").getKeys());
+
+    assertEquals(250, report.getEmployeeHashes().getBlobHashFields());
+    assertEquals(2, report.getEmployeeHashes().getFieldHashes());
+    assertEquals(4.0, report.getEmployeeHashes().getAverageFieldsPerHash());
+    assertEquals(220L, report.getEmployeeHashes().getEstimatedFieldHashMemoryBytes());
+
+    assertEquals(2, report.getValuesSampled());
+    double jdk = report.getAverageEncodedValueBytes().get("jdk");
+    double json = report.getAverageEncodedValueBytes().get("json");
+    double fieldHash = report.getAverageEncodedValueBytes().get("field-hash");
+    assertEquals(RedisMemoryInspector.fieldHashBytes(employee), fieldHash);
+    assertTrue(fieldHash < json && json < jdk);
+
+    KeySample largest = report.getLargestKeys().get(0);
+    assertEquals("Employee", largest.getKey());
+    assertEquals("hash", largest.getType());
+    assertTrue(largest.isBig());
+    assertFalse(report.getLargestKeys().get(1).isBig());
+    assertEquals("Employee:2", report.getHotKeys().get(0).getKey());
+    assertEquals(1L, report.getHotKeys().get(0).getIdleSeconds());
+    assertNull(report.getHotKeys().get(0).getFrequency());
+  }
+
+  @Test
+  @DisplayName("Falls back to element counts when MEMORY and OBJECT are disabled")
+  @SuppressWarnings("unchecked")
+  void testInspectWithoutMemoryUsage() {
+    scanReturns("Employee", "EmployeeNameIndex");
+    when(stringRedisTemplate.execute(any(RedisCallback.class)))
+        .thenThrow(new InvalidDataAccessApiUsageException("ERR unknown command"));
+    when(stringRedisTemplate.executePipelined(any(RedisCallback.class)))
+        .thenReturn(List.of(DataType.HASH, DataType.ZSET))
+        .thenReturn(List.of(3L, 7L));
+    countsReturn(3, 0);
+    when(blobEmployeeStore.sample(50)).thenReturn(List.of());
+    when(fieldHashEmployeeStore.sample(50)).thenReturn(List.of());
+
+    RedisMemoryReport report = inspector.inspect();
+
+    assertFalse(report.isMemoryUsageSupported());
+    assertEquals("unavailable", report.getHotKeySource());
+    assertTrue(report.getHotKeys().isEmpty());
+    assertNull(report.getGroups().get("blob-hash").getMemoryBytes());
+    assertEquals("EmployeeNameIndex", report.getLargestKeys().get(0).getKey());
+    assertEquals(0, report.getValuesSampled());
+    assertTrue(report.getAverageEncodedValueBytes().isEmpty());
+  }
+
+  @Test
+  @DisplayName("Scans in batches and stops at the key limit")
+  @SuppressWarnings("unchecked")
+  void testInspectStopsAtMaxKeys() {
+    properties.setScanCount(1);
+    properties.setMaxKeys(2);
+    scanReturns("Employee:1", "Employee:2", "Employee:3");
+    when(stringRedisTemplate.execute(any(RedisCallback.class)))
+        .thenThrow(new InvalidDataAccessApiUsageException("ERR unknown command"));
+    when(stringRedisTemplate.executePipelined(any(RedisCallback.class)))
+        .thenReturn(List.of(DataType.HASH))
+        .thenReturn(List.of(DataType.HASH))
+        .thenReturn(List.of(4L));
+    countsReturn(0, 3);
+    when(blobEmployeeStore.sample(anyInt())).thenReturn(List.of());
+    when(fieldHashEmployeeStore.sample(anyInt())).thenReturn(List.of());
+
+    RedisMemoryReport report = inspector.inspect();
+
+    assertEquals(2, report.getKeysScanned());
+    assertFalse(report.isComplete());
+    // capabilities are probed once, each batch costs one pipeline and so does each count batch
+    verify(stringRedisTemplate, times(3)).execute(any(RedisCallback.class));
+    verify(stringRedisTemplate, times(4)).executePipelined(any(RedisCallback.class));
+    verify(cursor).close();
+  }
+
+  @Test
+  @DisplayName("Counts elements only for big key candidates, after the access statistics")
+  @SuppressWarnings("unchecked")
+  void testInspectCountsOnlyBigKeyCandidates() {
+    properties.setTopKeys(1);
+    properties.setBigKeyMemory(DataSize.ofBytes(110));
+    scanReturns("Employee:1", "Employee", "Employee:2");
+    when(stringRedisTemplate.execute(any(RedisCallback.class))).thenReturn(1L);
+    RedisConnection connection = mock(RedisConnection.class);
+    RedisHashCommands hashCommands = mock(RedisHashCommands.class);
+    when(connection.hashCommands()).thenReturn(hashCommands);
+    // TYPE, MEMORY USAGE, OBJECT FREQ per key, then counts of the largest key and of Employee:1
+    when(stringRedisTemplate.executePipelined(any(RedisCallback.class)))
+        .thenReturn(
+            List.of(DataType.HASH, 120L, 7L, DataType.HASH, 30000L, 2L, DataType.HASH, 100L, 9L))
+        .thenAnswer(
+            invocation -> {
+              invocation.<RedisCallback<Object>>getArgument(0).doInRedis(connection);
+              return List.of(250L, 4L);
+            });
+    countsReturn(250, 2);
+    when(blobEmployeeStore.sample(50)).thenReturn(List.of(employee));
+    when(fieldHashEmployeeStore.sample(49)).thenReturn(List.of());
+
+    RedisMemoryReport report = inspector.inspect();
+
+    verify(hashCommands).hLen(bytes("Employee"));
+    verify(hashCommands).hLen(bytes("Employee:1"));
+    verifyNoMoreInteractions(hashCommands);
+    assertEquals(250L, report.getGroups().get("blob-hash").getElements());
+    assertNull(report.getGroups().get("employee-hashes").getElements());
+    assertEquals(
+        (double) EmployeeField.toHash(employee).size(),
+        report.getEmployeeHashes().getAverageFieldsPerHash());
+
+    assertEquals("lfu-frequency", report.getHotKeySource());
+    assertEquals("Employee:2", report.getHotKeys().get(0).getKey());
+    assertNull(report.getHotKeys().get(0).getElements());
+    assertEquals(9L, report.getHotKeys().get(0).getFrequency());
+    assertTrue(report.getLargestKeys().get(0).isBig());
+  }
+
+  @Test
+  @DisplayName("Keys are grouped by the layout they belong to")
+  void testGroupOf() {
+    assertEquals("blob-hash", RedisMemoryInspector.groupOf("Employee"));
+    assertEquals("employee-hashes", RedisMemoryInspector.groupOf("Employee:101"));
+    assertEquals("id-index", RedisMemoryInspector.groupOf("EmployeeIds"));
+    assertEquals("name-index", RedisMemoryInspector.groupOf("EmployeeNameIndex:finance"));
+    assertEquals("department-index", RedisMemoryInspector.groupOf("EmployeeDepartment:finance"));
+    assertEquals("versions", RedisMemoryInspector.groupOf("EmployeeVersions"));
+    assertEquals("other", RedisMemoryInspector.groupOf("EmployeeArchive"));
+  }
+}